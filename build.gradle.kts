@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.2.5"
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
@@ -21,6 +22,7 @@ repositories {
 
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-webflux")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.mariadb:r2dbc-mariadb:1.1.3")
     implementation("org.springframework.boot:spring-boot-starter-data-r2dbc")
     compileOnly("org.projectlombok:lombok")
@@ -32,3 +34,17 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+jmh {
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+}
+
+tasks.register<JavaExec>("selfPlay") {
+    group = "verification"
+    description = "Plays AI-vs-AI games headless and reports games per second, shots to win and allocation per game."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.battleshipbackend.benchmark.SelfPlaySimulation")
+}
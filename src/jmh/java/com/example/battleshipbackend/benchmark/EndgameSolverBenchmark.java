@@ -0,0 +1,100 @@
+package com.example.battleshipbackend.benchmark;
+
+import com.example.battleshipbackend.game.ai.AIMoveProbe;
+import com.example.battleshipbackend.game.ai.BoardObservation;
+import com.example.battleshipbackend.game.ai.EndgameSolver;
+import com.example.battleshipbackend.game.ai.MonteCarloStrikeSelector;
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.Coordinate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Cost per move of the exact endgame solver, next to the Monte Carlo selection it replaces late in a game.
+ * Boards are late game positions: a number of misses spread at random, a few ships left and optionally a live hit.
+ * Run with ./gradlew jmh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EndgameSolverBenchmark {
+
+  @Param({"2-3", "3-2", "4-3-2"})
+  private String remainingShips;
+
+  @Param({"45", "60"})
+  private int misses;
+
+  @Param({"false", "true"})
+  private boolean isTargeting;
+
+  private EndgameSolver endgameSolver;
+  private MonteCarloStrikeSelector monteCarloStrikeSelector;
+  private BoardObservation observation;
+
+  @Setup
+  public void setUp() {
+    endgameSolver = new EndgameSolver(2, Long.MAX_VALUE, 1000);
+    monteCarloStrikeSelector = new MonteCarloStrikeSelector(2, 20000, 1000);
+    String[] lengthValues = remainingShips.split("-");
+    int[] lengths = new int[lengthValues.length];
+    for (int i = 0; i < lengths.length; i++) {
+      lengths[i] = Integer.parseInt(lengthValues[i]);
+    }
+    // A ship kept clear of the misses, so the board always has at least one consistent layout.
+    Bitboard keepClear = new Bitboard();
+    for (int column = 0; column < lengths[0]; column++) {
+      keepClear.add(Bitboard.toCell(4, column));
+    }
+    Random random = new Random(42);
+    Bitboard struck = new Bitboard();
+    while (struck.count() < misses) {
+      int cell = random.nextInt(Bitboard.CELL_COUNT);
+      if (!keepClear.contains(cell)) {
+        struck.add(cell);
+      }
+    }
+    Bitboard blocked = new Bitboard(struck.getLow(), struck.getHigh());
+    Bitboard liveHits = new Bitboard();
+    if (isTargeting) {
+      liveHits.add(Bitboard.toCell(4, 0));
+      struck.add(Bitboard.toCell(4, 0));
+    }
+    observation = new BoardObservation(struck, blocked, liveHits, lengths);
+  }
+
+  @TearDown
+  public void tearDown() {
+    endgameSolver.shutdown();
+    monteCarloStrikeSelector.shutdown();
+  }
+
+  @Benchmark
+  public long searchSpaceEstimate() {
+    return EndgameSolver.estimateSearchSpace(observation);
+  }
+
+  @Benchmark
+  public long[] exactEnumeration() {
+    return endgameSolver.countLayouts(observation);
+  }
+
+  @Benchmark
+  public Coordinate exactStrike() {
+    return endgameSolver.selectStrike(observation, null, new AIMoveProbe()).block();
+  }
+
+  @Benchmark
+  public Coordinate monteCarloStrike() {
+    return monteCarloStrikeSelector.selectStrike(observation, null, new AIMoveProbe()).block();
+  }
+}
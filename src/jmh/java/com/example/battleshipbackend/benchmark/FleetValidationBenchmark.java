@@ -0,0 +1,106 @@
+package com.example.battleshipbackend.benchmark;
+
+import com.example.battleshipbackend.game.model.Coordinate;
+import com.example.battleshipbackend.game.model.Ship;
+import com.example.battleshipbackend.game.service.GameRuleServiceImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares fleet validation on precomputed placement masks with the previous stream based validation.
+ * Run with ./gradlew jmh, the gc profiler reports the allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FleetValidationBenchmark {
+
+  private final GameRuleServiceImpl gameRuleService = new GameRuleServiceImpl();
+  private List<Ship> validFleet;
+  private List<Ship> overlappingFleet;
+
+  @Setup
+  public void setUp() {
+    validFleet = List.of(
+        ship(0, 0, 5, true),
+        ship(2, 0, 4, false),
+        ship(2, 3, 3, true),
+        ship(5, 5, 3, false),
+        ship(9, 8, 2, true));
+    overlappingFleet = List.of(
+        ship(0, 0, 5, true),
+        ship(0, 2, 4, false),
+        ship(2, 3, 3, true),
+        ship(5, 5, 3, false),
+        ship(9, 8, 2, true));
+  }
+
+  @Benchmark
+  public boolean placementMasksValidFleet() {
+    return gameRuleService.isShipsValid(validFleet);
+  }
+
+  @Benchmark
+  public boolean placementMasksOverlappingFleet() {
+    return gameRuleService.isShipsValid(overlappingFleet);
+  }
+
+  @Benchmark
+  public boolean streamsValidFleet() {
+    return LegacyFleetValidation.isShipsValid(validFleet);
+  }
+
+  @Benchmark
+  public boolean streamsOverlappingFleet() {
+    return LegacyFleetValidation.isShipsValid(overlappingFleet);
+  }
+
+  private static Ship ship(int row, int column, int length, boolean isHorizontal) {
+    List<Coordinate> coordinates = new ArrayList<>();
+    for (int i = 0; i < length; i++) {
+      coordinates.add(isHorizontal ? Coordinate.of(row, column + i) : Coordinate.of(row + i, column));
+    }
+    return new Ship(String.valueOf(row * 10 + column), coordinates);
+  }
+
+  // The validation as it was implemented in GameRuleServiceImpl before the placement table.
+  private static final class LegacyFleetValidation {
+
+    static boolean isShipsValid(List<Ship> ships) {
+      return isShipsWithinBounds(ships)
+          && isNotOverlapping(ships)
+          && ships.size() == 5
+          && isLengthOfShipsValid(ships);
+    }
+
+    static boolean isLengthOfShipsValid(List<Ship> ships) {
+      return ships.stream().filter(e -> e.getCoordinates().size() == 2).count() == 1
+          && ships.stream().filter(e -> e.getCoordinates().size() == 3).count() == 2
+          && ships.stream().filter(e -> e.getCoordinates().size() == 4).count() == 1
+          && ships.stream().filter(e -> e.getCoordinates().size() == 5).count() == 1;
+    }
+
+    static boolean isShipsWithinBounds(List<Ship> ships) {
+      List<Coordinate> coordinates = toListOfAllCoordinates(ships);
+      return coordinates.size() == coordinates.stream()
+          .filter(e -> e.getRow() >= 0 && e.getRow() <= 9 && e.getColumn() >= 0 && e.getColumn() <= 9).toArray().length;
+    }
+
+    static boolean isNotOverlapping(List<Ship> ships) {
+      List<Coordinate> coordinates = toListOfAllCoordinates(ships);
+      return coordinates.size() == coordinates.stream().distinct().count();
+    }
+
+    static List<Coordinate> toListOfAllCoordinates(List<Ship> ships) {
+      return ships.stream().flatMap(ship -> ship.getCoordinates().stream()).toList();
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.example.battleshipbackend.benchmark;
+
+import com.example.battleshipbackend.game.dto.ShipDTO;
+import com.example.battleshipbackend.game.dto.response.GameEvent;
+import com.example.battleshipbackend.game.enums.GameEventType;
+import com.example.battleshipbackend.game.model.Strike;
+import com.example.battleshipbackend.webSocket.codec.JsonGameMessageCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+/**
+ * Encoding a full game event to an outgoing frame payload: the previous String based path against streaming
+ * into a pooled Netty buffer. Run with ./gradlew jmh, the gc profiler reports the bytes allocated per message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameEventEncodingBenchmark {
+
+  @Param({"10", "40", "80"})
+  private int strikesPerPlayer;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final JsonGameMessageCodec jsonGameMessageCodec = new JsonGameMessageCodec(objectMapper);
+  private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+  private GameEvent event;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    List<ShipDTO> ships = List.of(
+        ship(0, 0, 0, 5, true),
+        ship(1, 2, 0, 4, false),
+        ship(2, 2, 3, 3, true),
+        ship(3, 5, 5, 3, false),
+        ship(4, 9, 8, 2, true));
+    event = GameEvent.builder()
+        .gameId(UUID.randomUUID().toString())
+        .eventType(GameEventType.TURN_OWN)
+        .ownStrikes(strikes(random))
+        .opponentStrikes(strikes(random))
+        .timeLeft(87L)
+        .ownActiveShips(ships.subList(0, 3))
+        .ownSunkenShips(ships.subList(3, 5))
+        .opponentSunkenShips(ships.subList(4, 5))
+        .sequence(strikesPerPlayer * 2)
+        .build();
+  }
+
+  @Benchmark
+  public DataBuffer stringThenBytes() throws IOException {
+    byte[] bytes = objectMapper.writeValueAsString(event).getBytes(StandardCharsets.UTF_8);
+    DataBuffer buffer = bufferFactory.wrap(bytes);
+    DataBufferUtils.release(buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public DataBuffer streamedIntoPooledBuffer() throws IOException {
+    DataBuffer buffer = jsonGameMessageCodec.write(bufferFactory, event);
+    DataBufferUtils.release(buffer);
+    return buffer;
+  }
+
+  private List<Strike> strikes(Random random) {
+    List<Strike> strikes = new ArrayList<>(strikesPerPlayer);
+    for (int cell = 0; cell < strikesPerPlayer; cell++) {
+      strikes.add(Strike.of(cell, random.nextInt(4) == 0));
+    }
+    return strikes;
+  }
+
+  private static ShipDTO ship(int id, int row, int column, int length, boolean isHorizontal) {
+    return ShipDTO.builder()
+        .id(String.valueOf(id))
+        .row(row)
+        .column(column)
+        .length(length)
+        .isHorizontal(isHorizontal)
+        .build();
+  }
+}
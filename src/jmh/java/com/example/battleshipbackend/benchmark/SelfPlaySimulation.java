@@ -0,0 +1,186 @@
+package com.example.battleshipbackend.benchmark;
+
+import com.example.battleshipbackend.game.ai.EndgameSolver;
+import com.example.battleshipbackend.game.ai.MonteCarloStrikeSelector;
+import com.example.battleshipbackend.game.ai.TargetBoard;
+import com.example.battleshipbackend.game.ai.strategy.AIStrategyMetrics;
+import com.example.battleshipbackend.game.ai.strategy.HeatmapStrategy;
+import com.example.battleshipbackend.game.ai.strategy.HeuristicStrategy;
+import com.example.battleshipbackend.game.ai.strategy.MonteCarloStrategy;
+import com.example.battleshipbackend.game.ai.strategy.RandomStrategy;
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
+import com.example.battleshipbackend.game.enums.GameStateType;
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.Coordinate;
+import com.example.battleshipbackend.game.model.GameSession;
+import com.example.battleshipbackend.game.model.Ship;
+import com.example.battleshipbackend.game.model.StrikeBoard;
+import com.example.battleshipbackend.game.service.AIOpponentService;
+import com.example.battleshipbackend.game.service.AIOpponentServiceImpl;
+import com.example.battleshipbackend.game.service.GameRuleService;
+import com.example.battleshipbackend.game.service.GameRuleServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Plays AI-vs-AI games headless, straight against the AI and rule services and the game session model,
+ * and reports throughput, shots needed to win and allocation per game.
+ * Run with ./gradlew selfPlay --args="--games=1000000 --threads=4 --player1=NORMAL --player2=NORMAL".
+ */
+public class SelfPlaySimulation {
+
+  private static final int MAX_STRIKES_PER_PLAYER = Bitboard.CELL_COUNT;
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private final AIOpponentService aiOpponentService;
+  private final GameRuleService gameRuleService = new GameRuleServiceImpl();
+  private final AIDifficultyType difficultyPlayer1;
+  private final AIDifficultyType difficultyPlayer2;
+
+  private final AtomicLong gamesStarted = new AtomicLong();
+  private final LongAdder gamesPlayed = new LongAdder();
+  private final LongAdder gamesAborted = new LongAdder();
+  private final LongAdder winsPlayer1 = new LongAdder();
+  private final LongAdder winsPlayer2 = new LongAdder();
+  private final LongAdder winningShots = new LongAdder();
+  private final LongAdder allocatedBytes = new LongAdder();
+
+  public SelfPlaySimulation(AIOpponentService aiOpponentService, AIDifficultyType difficultyPlayer1,
+    AIDifficultyType difficultyPlayer2) {
+    this.aiOpponentService = aiOpponentService;
+    this.difficultyPlayer1 = difficultyPlayer1;
+    this.difficultyPlayer2 = difficultyPlayer2;
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    Map<String, String> options = parseOptions(args);
+    long games = Long.parseLong(options.getOrDefault("games", "100000"));
+    int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+    AIDifficultyType difficultyPlayer1 = AIDifficultyType.fromValue(options.getOrDefault("player1", "NORMAL"));
+    AIDifficultyType difficultyPlayer2 = AIDifficultyType.fromValue(options.getOrDefault("player2", "NORMAL"));
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    RandomStrategy randomStrategy = new RandomStrategy();
+    HeatmapStrategy heatmapStrategy = new HeatmapStrategy();
+    HeuristicStrategy heuristicStrategy = new HeuristicStrategy(heatmapStrategy, randomStrategy);
+    MonteCarloStrikeSelector monteCarloStrikeSelector = new MonteCarloStrikeSelector(2, 20000, 150);
+    EndgameSolver endgameSolver = new EndgameSolver(2, 2_000_000, 150);
+    MonteCarloStrategy monteCarloStrategy = new MonteCarloStrategy(heuristicStrategy, monteCarloStrikeSelector, endgameSolver);
+    AIOpponentService aiOpponentService = new AIOpponentServiceImpl(
+      new AIStrategyMetrics(meterRegistry),
+      List.of(randomStrategy, heatmapStrategy, heuristicStrategy, monteCarloStrategy));
+
+    SelfPlaySimulation simulation = new SelfPlaySimulation(aiOpponentService, difficultyPlayer1, difficultyPlayer2);
+    long startNanos = System.nanoTime();
+    simulation.run(games, threads);
+    long elapsedNanos = System.nanoTime() - startNanos;
+    simulation.report(elapsedNanos, threads, meterRegistry);
+
+    monteCarloStrikeSelector.shutdown();
+    endgameSolver.shutdown();
+  }
+
+  public void run(long games, int threads) throws InterruptedException {
+    ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    for (int i = 0; i < threads; i++) {
+      executorService.execute(() -> {
+        long allocatedStart = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        while (gamesStarted.getAndIncrement() < games) {
+          playGame();
+        }
+        allocatedBytes.add(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedStart);
+      });
+    }
+    executorService.shutdown();
+    executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+  }
+
+  private void playGame() {
+    GameSession gameSession = new GameSession(Schedulers.immediate());
+    gameSession.setActiveShipsPlayer1(aiOpponentService.getRandomShips());
+    gameSession.setActiveShipsPlayer2(aiOpponentService.getRandomShips());
+    gameSession.setGameStarted(true);
+    gameSession.setGameState(GameStateType.TURN_PLAYER1);
+    TargetBoard targetBoardPlayer1 = new TargetBoard(gameSession.getStrikeBoardPlayer1(),
+      gameSession.getSunkenShipsPlayer2(), gameSession.getActiveShipsPlayer2(), difficultyPlayer1);
+    TargetBoard targetBoardPlayer2 = new TargetBoard(gameSession.getStrikeBoardPlayer2(),
+      gameSession.getSunkenShipsPlayer1(), gameSession.getActiveShipsPlayer1(), difficultyPlayer2);
+
+    for (int turn = 0; turn < MAX_STRIKES_PER_PLAYER * 2; turn++) {
+      boolean isPlayer1 = gameSession.getGameState() == GameStateType.TURN_PLAYER1;
+      TargetBoard targetBoard = isPlayer1 ? targetBoardPlayer1 : targetBoardPlayer2;
+      Bitboard opponentShipBoard = isPlayer1 ? gameSession.getShipBoardPlayer2() : gameSession.getShipBoardPlayer1();
+      Coordinate strike = aiOpponentService.getNextStrike(targetBoard).block();
+      if (strike == null || !applyStrike(strike, targetBoard, opponentShipBoard)) {
+        gamesAborted.increment();
+        return;
+      }
+      if (gameRuleService.isAllShipsSunk(targetBoard.getActiveShips())) {
+        (isPlayer1 ? winsPlayer1 : winsPlayer2).increment();
+        winningShots.add(targetBoard.getStrikes().getStrikes().size());
+        gamesPlayed.increment();
+        return;
+      }
+      gameSession.setGameState(isPlayer1 ? GameStateType.TURN_PLAYER2 : GameStateType.TURN_PLAYER1);
+    }
+    gamesAborted.increment();
+  }
+
+  private boolean applyStrike(Coordinate strike, TargetBoard targetBoard, Bitboard opponentShipBoard) {
+    int row = strike.getRow();
+    int column = strike.getColumn();
+    StrikeBoard strikes = targetBoard.getStrikes();
+    if (!Bitboard.isOnBoard(row, column) || gameRuleService.isStrikePositionAlreadyUsed(row, column, strikes.getStruck())) {
+      return false;
+    }
+    boolean isHit = gameRuleService.isStrikeMatchingShipCoordinate(row, column, opponentShipBoard);
+    strikes.addStrike(row, column, isHit);
+    if (isHit) {
+      gameRuleService.registerHitAndGetSunkenShip(row, column, targetBoard.getActiveShips())
+        .ifPresent(ship -> {
+          targetBoard.getActiveShips().remove(ship);
+          targetBoard.getSunkenShips().add(ship);
+        });
+    }
+    return true;
+  }
+
+  private void report(long elapsedNanos, int threads, MeterRegistry meterRegistry) {
+    long played = gamesPlayed.sum();
+    long finished = Math.max(1, played);
+    double seconds = elapsedNanos / 1e9;
+    double aiAllocatedBytes = meterRegistry.find("battleship.ai.move.allocated").summaries().stream()
+      .mapToDouble(summary -> summary.totalAmount())
+      .sum();
+    System.out.printf("Self-play %s vs %s on %d threads%n", difficultyPlayer1, difficultyPlayer2, threads);
+    System.out.printf("Games played:           %d (%d aborted) in %.1f s%n", played, gamesAborted.sum(), seconds);
+    System.out.printf("Games per second:       %.1f%n", played / seconds);
+    System.out.printf("Wins player 1 / 2:      %d / %d%n", winsPlayer1.sum(), winsPlayer2.sum());
+    System.out.printf("Average shots to win:   %.2f%n", (double) winningShots.sum() / finished);
+    System.out.printf("Allocated per game:     %.0f bytes on game threads%n", (double) allocatedBytes.sum() / finished);
+    System.out.printf("AI allocated per game:  %.0f bytes over all threads%n", aiAllocatedBytes / finished);
+  }
+
+  private static Map<String, String> parseOptions(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (!arg.startsWith("--") || separator < 0) {
+        throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+      }
+      options.put(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+    return options;
+  }
+}
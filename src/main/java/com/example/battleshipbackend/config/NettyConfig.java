@@ -1,5 +1,7 @@
 package com.example.battleshipbackend.config;
 
+import com.example.battleshipbackend.webSocket.compression.WebSocketCompressionInitializer;
+import com.example.battleshipbackend.webSocket.heartbeat.WebSocketHeartbeatInitializer;
 import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,9 +12,17 @@ import java.time.Duration;
 public class NettyConfig {
 
   @Bean
-  public NettyServerCustomizer nettyServerCustomizer() {
+  public NettyServerCustomizer nettyServerCustomizer(WebSocketCompressionInitializer webSocketCompressionInitializer,
+    WebSocketHeartbeatInitializer webSocketHeartbeatInitializer) {
     return httpServer -> httpServer
-      .idleTimeout(Duration.ofMinutes(10));
+      .idleTimeout(Duration.ofMinutes(10))
+      .doOnChannelInit((observer, channel, remoteAddress) -> {
+        // Handlers are added right after the HTTP codec, so the heartbeat ends up behind the deflate handlers.
+        webSocketHeartbeatInitializer.install(channel);
+        if (webSocketCompressionInitializer.isEnabled()) {
+          webSocketCompressionInitializer.install(channel);
+        }
+      });
   }
 }
 
@@ -0,0 +1,35 @@
+package com.example.battleshipbackend.constants;
+
+public final class TextMessages {
+  public static final String INVALID_GAME_ID = "Game id is not valid.";
+  public static final String ALREADY_IN_GAME = "Can't join a game when already in one";
+  public static final String INVALID_SHIPS = "Can't join a game without correct setup of ships.";
+  public static final String PLAYERS_ALREADY_ACTIVE = "Both players for this game are already active";
+  public static final String WRONG_SESSION = "Wrong session for this game";
+  public static final String MISSING_STRIKE_POSITION = "Row and/or column values are missing";
+  public static final String INVALID_STRIKE_POSITION = "Row and/or column values are not valid";
+  public static final String NOT_YOUR_TURN = "Not your turn to play";
+  public static final String STRIKE_POSITION_USED = "Can't hit same position twice";
+  public static final String NO_SUCH_GAME = "Game with that id does not exist";
+  public static final String INVALID_COMMAND = "Error: could not convert message to GameCommand object";
+  public static final String SERVER_ERROR = "Error: something went wrong server-side";
+  public static final String PONG = "pong";
+
+  public static final String[] VALUES = {
+      INVALID_GAME_ID,
+      ALREADY_IN_GAME,
+      INVALID_SHIPS,
+      PLAYERS_ALREADY_ACTIVE,
+      WRONG_SESSION,
+      MISSING_STRIKE_POSITION,
+      INVALID_STRIKE_POSITION,
+      NOT_YOUR_TURN,
+      STRIKE_POSITION_USED,
+      NO_SUCH_GAME,
+      INVALID_COMMAND,
+      SERVER_ERROR,
+      PONG
+  };
+
+  private TextMessages() {}
+}
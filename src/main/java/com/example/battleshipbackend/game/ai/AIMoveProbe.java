@@ -0,0 +1,49 @@
+package com.example.battleshipbackend.game.ai;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collects the cost of one AI move: the CPU time and heap allocation of every piece of work measured through it,
+ * whichever thread it ran on. Relies on the HotSpot thread allocation counters.
+ */
+public class AIMoveProbe {
+
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private final long startNanos = System.nanoTime();
+  private final LongAdder cpuNanos = new LongAdder();
+  private final LongAdder allocatedBytes = new LongAdder();
+
+  public <T> T measure(Supplier<T> work) {
+    long cpuStart = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    long allocatedStart = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    try {
+      return work.get();
+    } finally {
+      cpuNanos.add(THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStart);
+      allocatedBytes.add(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedStart);
+    }
+  }
+
+  public void measure(Runnable work) {
+    measure(() -> {
+      work.run();
+      return null;
+    });
+  }
+
+  public long getElapsedNanos() {
+    return System.nanoTime() - startNanos;
+  }
+
+  public long getCpuNanos() {
+    return cpuNanos.sum();
+  }
+
+  public long getAllocatedBytes() {
+    return allocatedBytes.sum();
+  }
+}
@@ -0,0 +1,32 @@
+package com.example.battleshipbackend.game.ai;
+
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.Ship;
+import java.util.List;
+
+/**
+ * Immutable snapshot of a target board, safe to hand to other threads while the game carries on.
+ *
+ * @param struck           every cell struck so far
+ * @param blocked          cells no remaining ship can occupy: misses and the cells of sunken ships
+ * @param liveHits         hits that belong to ships which are not sunk yet
+ * @param remainingLengths lengths of the ships still afloat
+ */
+public record BoardObservation(Bitboard struck, Bitboard blocked, Bitboard liveHits, int[] remainingLengths) {
+
+  public static BoardObservation of(TargetBoard targetBoard) {
+    Bitboard struck = targetBoard.getStrikes().getStruck();
+    Bitboard hits = targetBoard.getStrikes().getHits();
+    Bitboard sunken = Bitboard.of(targetBoard.getSunkenShips());
+    List<Ship> activeShips = targetBoard.getActiveShips();
+    int[] remainingLengths = new int[activeShips.size()];
+    for (int i = 0; i < remainingLengths.length; i++) {
+      remainingLengths[i] = activeShips.get(i).getCoordinates().size();
+    }
+    return new BoardObservation(
+        new Bitboard(struck.getLow(), struck.getHigh()),
+        new Bitboard((struck.getLow() & ~hits.getLow()) | sunken.getLow(), (struck.getHigh() & ~hits.getHigh()) | sunken.getHigh()),
+        new Bitboard(hits.getLow() & ~sunken.getLow(), hits.getHigh() & ~sunken.getHigh()),
+        remainingLengths);
+  }
+}
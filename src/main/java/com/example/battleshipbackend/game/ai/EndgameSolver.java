@@ -0,0 +1,263 @@
+package com.example.battleshipbackend.game.ai;
+
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.Coordinate;
+import com.example.battleshipbackend.game.model.ShipPlacements;
+import jakarta.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Counts in how many layouts of the remaining fleet, consistent with the observed board, each cell is occupied,
+ * by enumerating every such layout. This gives the exact probabilities the heatmap and the sampler approximate,
+ * and is used once the search space has shrunk below the configured size, typically late in a game.
+ * The enumeration is split over the placements of the first ship on a dedicated fork/join pool.
+ */
+@Log4j2
+@Component
+public class EndgameSolver {
+
+  private final ForkJoinPool pool;
+  private final long maxSearchSpace;
+  private final long timeBudgetMillis;
+
+  public EndgameSolver(
+    @Value("${battleship.ai.endgame.parallelism:2}") int parallelism,
+    @Value("${battleship.ai.endgame.max-search-space:2000000}") long maxSearchSpace,
+    @Value("${battleship.ai.endgame.time-budget-millis:150}") long timeBudgetMillis) {
+    this.maxSearchSpace = maxSearchSpace;
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.pool = new ForkJoinPool(parallelism);
+  }
+
+  /**
+   * Upper bound of the layouts to enumerate: the product of the placements each remaining ship fits on its own.
+   * Returns 0 when some ship fits nowhere.
+   */
+  public static long estimateSearchSpace(BoardObservation observation) {
+    long blockedLow = observation.blocked().getLow();
+    long blockedHigh = observation.blocked().getHigh();
+    long searchSpace = 1;
+    for (int length : observation.remainingLengths()) {
+      int fitting = 0;
+      for (int placement = 0; placement < ShipPlacements.count(length); placement++) {
+        if ((ShipPlacements.low(length, placement) & blockedLow) == 0 && (ShipPlacements.high(length, placement) & blockedHigh) == 0) {
+          fitting++;
+        }
+      }
+      if (fitting == 0) {
+        return 0;
+      }
+      searchSpace = searchSpace > Long.MAX_VALUE / fitting ? Long.MAX_VALUE : searchSpace * fitting;
+    }
+    return searchSpace;
+  }
+
+  public boolean isApplicable(BoardObservation observation) {
+    long searchSpace = estimateSearchSpace(observation);
+    return searchSpace > 0 && searchSpace <= maxSearchSpace;
+  }
+
+  /**
+   * Emits the unstruck cell occupied in most consistent layouts, or the fallback if there are none
+   * or the enumeration did not finish within the budget. The enumeration is measured through the probe
+   * and stops at the deadline, so an abandoned move does not hold the pool.
+   */
+  public Mono<Coordinate> selectStrike(BoardObservation observation, Coordinate fallback, AIMoveProbe probe) {
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+    CompletableFuture<Coordinate> strike = CompletableFuture
+      .supplyAsync(() -> enumerate(observation, deadlineNanos, fallback, probe), pool)
+      .completeOnTimeout(fallback, timeBudgetMillis * 2, TimeUnit.MILLISECONDS);
+    return Mono.fromFuture(strike);
+  }
+
+  /**
+   * Per cell, the number of consistent layouts occupying it. Blocks until the enumeration is done.
+   */
+  public long[] countLayouts(BoardObservation observation) {
+    return pool.invoke(EnumerationTask.of(observation, EnumerationTask.NO_DEADLINE, new AIMoveProbe()));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+
+  private static Coordinate enumerate(BoardObservation observation, long deadlineNanos, Coordinate fallback,
+    AIMoveProbe probe) {
+    long[] counts = EnumerationTask.of(observation, deadlineNanos, probe).invoke();
+    if (System.nanoTime() - deadlineNanos > 0) {
+      log.debug("Endgame enumeration ran out of its time budget, falling back");
+      return fallback;
+    }
+    return toStrike(observation, counts, fallback);
+  }
+
+  private static Coordinate toStrike(BoardObservation observation, long[] counts, Coordinate fallback) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Bitboard struck = observation.struck();
+    int bestCell = -1;
+    long bestCount = 0;
+    int ties = 0;
+    for (int cell = 0; cell < Bitboard.CELL_COUNT; cell++) {
+      if (struck.contains(cell) || counts[cell] == 0) {
+        continue;
+      }
+      if (counts[cell] > bestCount) {
+        bestCount = counts[cell];
+        bestCell = cell;
+        ties = 1;
+      } else if (counts[cell] == bestCount && random.nextInt(++ties) == 0) {
+        bestCell = cell;
+      }
+    }
+    if (bestCell < 0) {
+      log.warn("No consistent fleet layout enumerated, falling back: observation {}", observation);
+      return fallback;
+    }
+    return Coordinate.ofCell(bestCell);
+  }
+
+  /*
+  Ships are enumerated longest first. Ships of equal length are interchangeable, so each one only takes placements
+  after the previous one's to count every layout once. A ship afloat never lies on live hits alone, it would have been
+  reported sunk, so such placements are skipped. A branch is cut as soon as the live hits left uncovered outnumber the
+  cells of the ships left to place. Every task checks the deadline on start and every 1024 nodes, and once it has
+  passed returns what it counted so far.
+   */
+  private static final class EnumerationTask extends RecursiveTask<long[]> {
+    static final long NO_DEADLINE = Long.MIN_VALUE;
+    private static final int DEADLINE_CHECK_MASK = 1023;
+
+    private final SearchSpace space;
+    private final int from;
+    private final int to;
+    private final long deadlineNanos;
+    private final AIMoveProbe probe;
+    private int visitedNodes;
+    private boolean isExpired;
+
+    private EnumerationTask(SearchSpace space, int from, int to, long deadlineNanos, AIMoveProbe probe) {
+      this.space = space;
+      this.from = from;
+      this.to = to;
+      this.deadlineNanos = deadlineNanos;
+      this.probe = probe;
+    }
+
+    static EnumerationTask of(BoardObservation observation, long deadlineNanos, AIMoveProbe probe) {
+      SearchSpace space = SearchSpace.of(observation);
+      int firstPlacements = space.lengths.length == 0 ? 0 : ShipPlacements.count(space.lengths[0]);
+      return new EnumerationTask(space, 0, firstPlacements, deadlineNanos, probe);
+    }
+
+    @Override
+    protected long[] compute() {
+      if (to - from > 1) {
+        int middle = (from + to) >>> 1;
+        EnumerationTask left = new EnumerationTask(space, from, middle, deadlineNanos, probe);
+        left.fork();
+        long[] counts = new EnumerationTask(space, middle, to, deadlineNanos, probe).compute();
+        long[] leftCounts = left.join();
+        for (int cell = 0; cell < Bitboard.CELL_COUNT; cell++) {
+          counts[cell] += leftCounts[cell];
+        }
+        return counts;
+      }
+      return probe.measure(this::enumerateFrom);
+    }
+
+    private long[] enumerateFrom() {
+      long[] counts = new long[Bitboard.CELL_COUNT];
+      if (from < to && !isPastDeadline()) {
+        int length = space.lengths[0];
+        long low = ShipPlacements.low(length, from);
+        long high = ShipPlacements.high(length, from);
+        if ((low & space.blockedLow) == 0 && (high & space.blockedHigh) == 0 && !isOnLiveHitsOnly(low, high)) {
+          enumerate(1, from + 1, low, high, counts);
+        }
+      }
+      return counts;
+    }
+
+    private void enumerate(int ship, int nextPlacement, long occupiedLow, long occupiedHigh, long[] counts) {
+      if ((++visitedNodes & DEADLINE_CHECK_MASK) == 0 && isPastDeadline()) {
+        isExpired = true;
+      }
+      if (isExpired) {
+        return;
+      }
+      long uncoveredLow = space.liveHitLow & ~occupiedLow;
+      long uncoveredHigh = space.liveHitHigh & ~occupiedHigh;
+      if (ship == space.lengths.length) {
+        if ((uncoveredLow | uncoveredHigh) == 0) {
+          count(occupiedLow & ~space.struckLow, occupiedHigh & ~space.struckHigh, counts);
+        }
+        return;
+      }
+      if (Long.bitCount(uncoveredLow) + Long.bitCount(uncoveredHigh) > space.remainingCells[ship]) {
+        return;
+      }
+      int length = space.lengths[ship];
+      long blockedLow = space.blockedLow | occupiedLow;
+      long blockedHigh = space.blockedHigh | occupiedHigh;
+      int placement = space.lengths[ship - 1] == length ? nextPlacement : 0;
+      for (; placement < ShipPlacements.count(length); placement++) {
+        long low = ShipPlacements.low(length, placement);
+        long high = ShipPlacements.high(length, placement);
+        if ((low & blockedLow) == 0 && (high & blockedHigh) == 0 && !isOnLiveHitsOnly(low, high)) {
+          enumerate(ship + 1, placement + 1, occupiedLow | low, occupiedHigh | high, counts);
+        }
+      }
+    }
+
+    private boolean isOnLiveHitsOnly(long low, long high) {
+      return (low & ~space.liveHitLow) == 0 && (high & ~space.liveHitHigh) == 0;
+    }
+
+    private boolean isPastDeadline() {
+      return deadlineNanos != NO_DEADLINE && System.nanoTime() - deadlineNanos > 0;
+    }
+
+    private static void count(long low, long high, long[] counts) {
+      while (low != 0) {
+        counts[Long.numberOfTrailingZeros(low)]++;
+        low &= low - 1;
+      }
+      while (high != 0) {
+        counts[64 + Long.numberOfTrailingZeros(high)]++;
+        high &= high - 1;
+      }
+    }
+  }
+
+  private record SearchSpace(int[] lengths, int[] remainingCells, long blockedLow, long blockedHigh,
+                             long liveHitLow, long liveHitHigh, long struckLow, long struckHigh) {
+
+    static SearchSpace of(BoardObservation observation) {
+      int[] ascending = observation.remainingLengths().clone();
+      Arrays.sort(ascending);
+      int[] lengths = new int[ascending.length];
+      int[] remainingCells = new int[ascending.length];
+      for (int i = 0; i < lengths.length; i++) {
+        lengths[i] = ascending[ascending.length - 1 - i];
+      }
+      for (int i = lengths.length - 1, cells = 0; i >= 0; i--) {
+        cells += lengths[i];
+        remainingCells[i] = cells;
+      }
+      return new SearchSpace(lengths, remainingCells,
+          observation.blocked().getLow(), observation.blocked().getHigh(),
+          observation.liveHits().getLow(), observation.liveHits().getHigh(),
+          observation.struck().getLow(), observation.struck().getHigh());
+    }
+  }
+}
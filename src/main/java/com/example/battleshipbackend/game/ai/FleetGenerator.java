@@ -0,0 +1,70 @@
+package com.example.battleshipbackend.game.ai;
+
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.Coordinate;
+import com.example.battleshipbackend.game.model.Ship;
+import com.example.battleshipbackend.game.model.ShipPlacements;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates random legal fleets from the placement table. Each ship, longest first, is drawn uniformly among the
+ * placements that do not overlap the ships already placed, so a fleet never needs a retry: at most two scans of
+ * the placement masks per ship. A fleet of the standard lengths always fits, whatever the earlier draws.
+ */
+public final class FleetGenerator {
+
+  private FleetGenerator() {
+  }
+
+  public static List<Ship> randomFleet() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int[] lengths = ShipPlacements.FLEET_SHIP_LENGTHS;
+    List<Ship> ships = new ArrayList<>(lengths.length);
+    long occupiedLow = 0L;
+    long occupiedHigh = 0L;
+    for (int i = 0; i < lengths.length; i++) {
+      int length = lengths[i];
+      int placement = pickFitting(random, length, occupiedLow, occupiedHigh);
+      occupiedLow |= ShipPlacements.low(length, placement);
+      occupiedHigh |= ShipPlacements.high(length, placement);
+      ships.add(new Ship(String.valueOf(i), toCoordinates(length, placement)));
+    }
+    return ships;
+  }
+
+  private static int pickFitting(ThreadLocalRandom random, int length, long occupiedLow, long occupiedHigh) {
+    int fitting = 0;
+    for (int placement = 0; placement < ShipPlacements.count(length); placement++) {
+      if (isFree(length, placement, occupiedLow, occupiedHigh)) {
+        fitting++;
+      }
+    }
+    if (fitting == 0) {
+      throw new IllegalStateException("No free placement for a ship of length " + length);
+    }
+    int skip = random.nextInt(fitting);
+    for (int placement = 0; placement < ShipPlacements.count(length); placement++) {
+      if (isFree(length, placement, occupiedLow, occupiedHigh) && skip-- == 0) {
+        return placement;
+      }
+    }
+    throw new IllegalStateException("No free placement for a ship of length " + length);
+  }
+
+  private static boolean isFree(int length, int placement, long occupiedLow, long occupiedHigh) {
+    return (ShipPlacements.low(length, placement) & occupiedLow) == 0
+      && (ShipPlacements.high(length, placement) & occupiedHigh) == 0;
+  }
+
+  private static List<Coordinate> toCoordinates(int length, int placement) {
+    int startCell = ShipPlacements.startCell(length, placement);
+    int step = ShipPlacements.isHorizontal(length, placement) ? 1 : Bitboard.BOARD_SIZE;
+    List<Coordinate> coordinates = new ArrayList<>(length);
+    for (int k = 0; k < length; k++) {
+      coordinates.add(Coordinate.ofCell(startCell + k * step));
+    }
+    return coordinates;
+  }
+}
@@ -0,0 +1,175 @@
+package com.example.battleshipbackend.game.ai;
+
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.ShipPlacements;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples random layouts of the remaining fleet that are consistent with a board observation and counts how often
+ * each unstruck cell is occupied. Ships are first placed over the live hits, then the rest anywhere they fit,
+ * so samples are rarely rejected even late in a target phase. A ship is never placed on live hits alone, as it would
+ * have been reported sunk. One sampler is used by one thread only.
+ */
+public class FleetSampler {
+
+  private final long blockedLow;
+  private final long blockedHigh;
+  private final long liveHitLow;
+  private final long liveHitHigh;
+  private final long struckLow;
+  private final long struckHigh;
+  private final int[] lengths;
+  private final boolean[] isPlaced;
+  private final int[] counts = new int[Bitboard.CELL_COUNT];
+  private int acceptedSamples;
+
+  public FleetSampler(BoardObservation observation) {
+    this.blockedLow = observation.blocked().getLow();
+    this.blockedHigh = observation.blocked().getHigh();
+    this.liveHitLow = observation.liveHits().getLow();
+    this.liveHitHigh = observation.liveHits().getHigh();
+    this.struckLow = observation.struck().getLow();
+    this.struckHigh = observation.struck().getHigh();
+    this.lengths = observation.remainingLengths();
+    this.isPlaced = new boolean[lengths.length];
+  }
+
+  /**
+   * Draws up to maxSamples layouts, stopping early once System.nanoTime() passes deadlineNanos.
+   */
+  public void sample(int maxSamples, long deadlineNanos) {
+    sample(maxSamples, deadlineNanos, ThreadLocalRandom.current());
+  }
+
+  void sample(int maxSamples, long deadlineNanos, RandomGenerator random) {
+    for (int i = 0; i < maxSamples; i++) {
+      if ((i & 63) == 0 && System.nanoTime() - deadlineNanos > 0) {
+        return;
+      }
+      sampleOnce(random);
+    }
+  }
+
+  public int[] getCounts() {
+    return counts;
+  }
+
+  public int getAcceptedSamples() {
+    return acceptedSamples;
+  }
+
+  private void sampleOnce(RandomGenerator random) {
+    long occupiedLow = 0L;
+    long occupiedHigh = 0L;
+    int placedCount = 0;
+    for (int i = 0; i < isPlaced.length; i++) {
+      isPlaced[i] = false;
+    }
+    long uncoveredLow = liveHitLow;
+    long uncoveredHigh = liveHitHigh;
+    while ((uncoveredLow | uncoveredHigh) != 0) {
+      if (placedCount == lengths.length) {
+        return;
+      }
+      int cell = uncoveredLow != 0 ? Long.numberOfTrailingZeros(uncoveredLow) : 64 + Long.numberOfTrailingZeros(uncoveredHigh);
+      int ship = pickUnplacedShip(random, lengths.length - placedCount);
+      int length = lengths[ship];
+      int placement = pickFitting(random, length, ShipPlacements.placementsCovering(length, cell),
+          blockedLow | occupiedLow, blockedHigh | occupiedHigh, liveHitLow, liveHitHigh);
+      if (placement < 0) {
+        return;
+      }
+      occupiedLow |= ShipPlacements.low(length, placement);
+      occupiedHigh |= ShipPlacements.high(length, placement);
+      uncoveredLow &= ~occupiedLow;
+      uncoveredHigh &= ~occupiedHigh;
+      isPlaced[ship] = true;
+      placedCount++;
+    }
+    for (int ship = 0; ship < lengths.length; ship++) {
+      if (isPlaced[ship]) {
+        continue;
+      }
+      int length = lengths[ship];
+      int placement = pickFittingAny(random, length, blockedLow | occupiedLow | liveHitLow,
+          blockedHigh | occupiedHigh | liveHitHigh);
+      if (placement < 0) {
+        return;
+      }
+      occupiedLow |= ShipPlacements.low(length, placement);
+      occupiedHigh |= ShipPlacements.high(length, placement);
+    }
+    acceptedSamples++;
+    long candidatesLow = occupiedLow & ~struckLow;
+    long candidatesHigh = occupiedHigh & ~struckHigh;
+    while (candidatesLow != 0) {
+      counts[Long.numberOfTrailingZeros(candidatesLow)]++;
+      candidatesLow &= candidatesLow - 1;
+    }
+    while (candidatesHigh != 0) {
+      counts[64 + Long.numberOfTrailingZeros(candidatesHigh)]++;
+      candidatesHigh &= candidatesHigh - 1;
+    }
+  }
+
+  private int pickUnplacedShip(RandomGenerator random, int unplacedCount) {
+    int skip = random.nextInt(unplacedCount);
+    for (int ship = 0; ship < lengths.length; ship++) {
+      if (!isPlaced[ship] && skip-- == 0) {
+        return ship;
+      }
+    }
+    throw new IllegalStateException("No unplaced ship left");
+  }
+
+  private static int pickFitting(RandomGenerator random, int length, int[] placements, long blockedLow, long blockedHigh,
+      long liveHitLow, long liveHitHigh) {
+    int start = random.nextInt(placements.length);
+    for (int i = 0; i < placements.length; i++) {
+      int placement = placements[(start + i) % placements.length];
+      long low = ShipPlacements.low(length, placement);
+      long high = ShipPlacements.high(length, placement);
+      if ((low & blockedLow) == 0 && (high & blockedHigh) == 0
+          && ((low & ~liveHitLow) != 0 || (high & ~liveHitHigh) != 0)) {
+        return placement;
+      }
+    }
+    return -1;
+  }
+
+  private static int pickFittingAny(RandomGenerator random, int length, long blockedLow, long blockedHigh) {
+    int count = ShipPlacements.count(length);
+    int start = random.nextInt(count);
+    for (int i = 0; i < count; i++) {
+      int placement = (start + i) % count;
+      if ((ShipPlacements.low(length, placement) & blockedLow) == 0 && (ShipPlacements.high(length, placement) & blockedHigh) == 0) {
+        return placement;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the unstruck cell with the highest count, ties broken at random, or -1 when nothing was counted.
+   */
+  public static int getBestCell(int[] counts, Bitboard struck) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int bestCell = -1;
+    int bestCount = 0;
+    int ties = 0;
+    for (int cell = 0; cell < Bitboard.CELL_COUNT; cell++) {
+      if (struck.contains(cell) || counts[cell] == 0) {
+        continue;
+      }
+      if (counts[cell] > bestCount) {
+        bestCount = counts[cell];
+        bestCell = cell;
+        ties = 1;
+      } else if (counts[cell] == bestCount && random.nextInt(++ties) == 0) {
+        bestCell = cell;
+      }
+    }
+    return bestCell;
+  }
+}
@@ -0,0 +1,102 @@
+package com.example.battleshipbackend.game.ai;
+
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.Coordinate;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Picks the cell most likely to hold a ship by sampling fleet layouts consistent with the observed board.
+ * Sampling runs on a dedicated, bounded fork/join pool so it never occupies Netty or mailbox threads,
+ * and stops at a hard per-move deadline whatever the configured sample count.
+ */
+@Log4j2
+@Component
+public class MonteCarloStrikeSelector {
+
+  private final ForkJoinPool pool;
+  private final int parallelism;
+  private final int samplesPerMove;
+  private final long timeBudgetMillis;
+
+  public MonteCarloStrikeSelector(
+    @Value("${battleship.ai.monte-carlo.parallelism:2}") int parallelism,
+    @Value("${battleship.ai.monte-carlo.samples:20000}") int samplesPerMove,
+    @Value("${battleship.ai.monte-carlo.time-budget-millis:150}") long timeBudgetMillis) {
+    this.parallelism = parallelism;
+    this.samplesPerMove = samplesPerMove;
+    this.timeBudgetMillis = timeBudgetMillis;
+    this.pool = new ForkJoinPool(parallelism);
+  }
+
+  /**
+   * Samples the board snapshot on the pool, measuring the sampling through the probe.
+   * Emits the fallback if no consistent layout was found or the pool could not answer within the budget.
+   */
+  public Mono<Coordinate> selectStrike(BoardObservation observation, Coordinate fallback, AIMoveProbe probe) {
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+    CompletableFuture<Coordinate> strike = CompletableFuture
+      .supplyAsync(() -> sample(observation, deadlineNanos, fallback, probe), pool)
+      .completeOnTimeout(fallback, timeBudgetMillis * 2, TimeUnit.MILLISECONDS);
+    return Mono.fromFuture(strike);
+  }
+
+  private Coordinate sample(BoardObservation observation, long deadlineNanos, Coordinate fallback, AIMoveProbe probe) {
+    List<SamplingTask> tasks = new ArrayList<>(parallelism);
+    int samplesPerTask = Math.max(1, samplesPerMove / parallelism);
+    for (int i = 0; i < parallelism; i++) {
+      tasks.add(new SamplingTask(new FleetSampler(observation), samplesPerTask, deadlineNanos, probe));
+    }
+    ForkJoinTask.invokeAll(tasks);
+    int[] counts = new int[Bitboard.CELL_COUNT];
+    int acceptedSamples = 0;
+    for (SamplingTask task : tasks) {
+      int[] taskCounts = task.sampler.getCounts();
+      for (int cell = 0; cell < Bitboard.CELL_COUNT; cell++) {
+        counts[cell] += taskCounts[cell];
+      }
+      acceptedSamples += task.sampler.getAcceptedSamples();
+    }
+    int bestCell = FleetSampler.getBestCell(counts, observation.struck());
+    if (bestCell < 0) {
+      log.warn("No consistent fleet layout sampled, falling back: observation {}", observation);
+      return fallback;
+    }
+    log.debug("Monte Carlo strike from {} accepted samples", acceptedSamples);
+    return Coordinate.ofCell(bestCell);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+
+  private static final class SamplingTask extends RecursiveAction {
+    private final FleetSampler sampler;
+    private final int samples;
+    private final long deadlineNanos;
+    private final AIMoveProbe probe;
+
+    private SamplingTask(FleetSampler sampler, int samples, long deadlineNanos, AIMoveProbe probe) {
+      this.sampler = sampler;
+      this.samples = samples;
+      this.deadlineNanos = deadlineNanos;
+      this.probe = probe;
+    }
+
+    @Override
+    protected void compute() {
+      probe.measure(() -> sampler.sample(samples, deadlineNanos));
+    }
+  }
+}
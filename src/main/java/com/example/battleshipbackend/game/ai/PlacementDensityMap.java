@@ -0,0 +1,111 @@
+package com.example.battleshipbackend.game.ai;
+
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.ShipPlacements;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Per-game count of how many still possible placements of each ship length cover every cell.
+ * A placement stops being possible once any of its cells has been struck. New strikes only invalidate the placements
+ * that cover the struck cell, so keeping the map current costs a few hundred array updates per strike at most,
+ * and picking the densest cell is a single pass over the board without allocation.
+ */
+public class PlacementDensityMap {
+
+  private static final int[][] INITIAL_COVERAGE = new int[ShipPlacements.MAX_SHIP_LENGTH + 1][Bitboard.CELL_COUNT];
+
+  static {
+    for (int length = ShipPlacements.MIN_SHIP_LENGTH; length <= ShipPlacements.MAX_SHIP_LENGTH; length++) {
+      for (int cell = 0; cell < Bitboard.CELL_COUNT; cell++) {
+        INITIAL_COVERAGE[length][cell] = ShipPlacements.placementsCovering(length, cell).length;
+      }
+    }
+  }
+
+  private final int[][] coverage = new int[ShipPlacements.MAX_SHIP_LENGTH + 1][];
+  private final long[][] removedPlacements = new long[ShipPlacements.MAX_SHIP_LENGTH + 1][];
+  private final Bitboard appliedStrikes = new Bitboard();
+
+  public PlacementDensityMap() {
+    for (int length = ShipPlacements.MIN_SHIP_LENGTH; length <= ShipPlacements.MAX_SHIP_LENGTH; length++) {
+      coverage[length] = INITIAL_COVERAGE[length].clone();
+      removedPlacements[length] = new long[(ShipPlacements.count(length) + 63) / 64];
+    }
+  }
+
+  /**
+   * Applies every struck cell that has not been applied yet.
+   */
+  public void update(Bitboard struck) {
+    for (int cell = struck.nextCell(0); cell >= 0; cell = struck.nextCell(cell + 1)) {
+      if (!appliedStrikes.contains(cell)) {
+        appliedStrikes.add(cell);
+        applyStrike(cell);
+      }
+    }
+  }
+
+  /**
+   * Number of possible placements of the given length covering the cell.
+   */
+  public int getCoverage(int length, int cell) {
+    return coverage[length][cell];
+  }
+
+  /**
+   * Weighted density of the cell for the remaining ship lengths, each length weighted by itself.
+   * lengthMask has bit n set when a ship of length n is still afloat.
+   */
+  public int getScore(int cell, int lengthMask) {
+    int score = 0;
+    for (int length = ShipPlacements.MIN_SHIP_LENGTH; length <= ShipPlacements.MAX_SHIP_LENGTH; length++) {
+      if ((lengthMask & (1 << length)) != 0) {
+        score += length * coverage[length][cell];
+      }
+    }
+    return score;
+  }
+
+  /**
+   * Returns the not yet struck cell with the highest score, ties broken at random, or -1 when every cell is struck.
+   */
+  public int getBestCell(Bitboard struck, int lengthMask) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int bestCell = -1;
+    int bestScore = -1;
+    int ties = 0;
+    for (int cell = 0; cell < Bitboard.CELL_COUNT; cell++) {
+      if (struck.contains(cell)) {
+        continue;
+      }
+      int score = getScore(cell, lengthMask);
+      if (score > bestScore) {
+        bestScore = score;
+        bestCell = cell;
+        ties = 1;
+      } else if (score == bestScore && random.nextInt(++ties) == 0) {
+        bestCell = cell;
+      }
+    }
+    return bestCell;
+  }
+
+  private void applyStrike(int cell) {
+    for (int length = ShipPlacements.MIN_SHIP_LENGTH; length <= ShipPlacements.MAX_SHIP_LENGTH; length++) {
+      long[] removed = removedPlacements[length];
+      int[] lengthCoverage = coverage[length];
+      for (int placement : ShipPlacements.placementsCovering(length, cell)) {
+        long bit = 1L << (placement & 63);
+        if ((removed[placement >>> 6] & bit) != 0) {
+          continue;
+        }
+        removed[placement >>> 6] |= bit;
+        int step = ShipPlacements.isHorizontal(length, placement) ? 1 : Bitboard.BOARD_SIZE;
+        int placementCell = ShipPlacements.startCell(length, placement);
+        for (int k = 0; k < length; k++, placementCell += step) {
+          lengthCoverage[placementCell]--;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.example.battleshipbackend.game.ai;
+
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
+import com.example.battleshipbackend.game.model.Ship;
+import com.example.battleshipbackend.game.model.StrikeBoard;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * What an AI player knows about the board it is attacking: its own strikes, the opponent's sunken ships,
+ * and which ship lengths are still afloat. Also carries the AI's incremental per-game state.
+ */
+@Getter
+public class TargetBoard {
+
+  private final StrikeBoard strikes;
+  private final List<Ship> sunkenShips;
+  private final List<Ship> activeShips;
+  private final AIDifficultyType difficulty;
+  private final PlacementDensityMap densityMap = new PlacementDensityMap();
+
+  public TargetBoard(StrikeBoard strikes, List<Ship> sunkenShips, List<Ship> activeShips, AIDifficultyType difficulty) {
+    this.strikes = strikes;
+    this.sunkenShips = sunkenShips;
+    this.activeShips = activeShips;
+    this.difficulty = difficulty;
+  }
+
+  /**
+   * Bit n is set when a ship of length n is still afloat.
+   */
+  public int getRemainingLengthMask() {
+    int lengthMask = 0;
+    for (int i = 0; i < activeShips.size(); i++) {
+      lengthMask |= 1 << activeShips.get(i).getCoordinates().size();
+    }
+    return lengthMask;
+  }
+}
@@ -0,0 +1,18 @@
+package com.example.battleshipbackend.game.ai.strategy;
+
+import com.example.battleshipbackend.game.ai.AIMoveProbe;
+import com.example.battleshipbackend.game.ai.TargetBoard;
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
+import com.example.battleshipbackend.game.model.Coordinate;
+import reactor.core.publisher.Mono;
+
+/**
+ * How an AI player picks its next strike, one strategy per difficulty.
+ * Called on the game's thread; work done there or handed to other threads should be measured through the probe.
+ */
+public interface AIStrategy {
+
+  AIDifficultyType getDifficulty();
+
+  Mono<Coordinate> getNextStrike(TargetBoard targetBoard, AIMoveProbe probe);
+}
@@ -0,0 +1,48 @@
+package com.example.battleshipbackend.game.ai.strategy;
+
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the cost of every AI move, tagged by difficulty, under battleship.ai.move.*:
+ * latency until the strike is known, CPU time and allocated bytes summed over all threads that worked on it.
+ */
+@Component
+public class AIStrategyMetrics {
+
+  private final Map<AIDifficultyType, Timer> latencyTimers = new EnumMap<>(AIDifficultyType.class);
+  private final Map<AIDifficultyType, Timer> cpuTimers = new EnumMap<>(AIDifficultyType.class);
+  private final Map<AIDifficultyType, DistributionSummary> allocationSummaries = new EnumMap<>(AIDifficultyType.class);
+
+  @Autowired
+  public AIStrategyMetrics(MeterRegistry meterRegistry) {
+    for (AIDifficultyType difficulty : AIDifficultyType.values()) {
+      latencyTimers.put(difficulty, Timer.builder("battleship.ai.move.latency")
+        .description("Time from asking an AI strategy for a strike until it is known")
+        .tag("difficulty", difficulty.getValue())
+        .register(meterRegistry));
+      cpuTimers.put(difficulty, Timer.builder("battleship.ai.move.cpu")
+        .description("CPU time spent computing an AI strike")
+        .tag("difficulty", difficulty.getValue())
+        .register(meterRegistry));
+      allocationSummaries.put(difficulty, DistributionSummary.builder("battleship.ai.move.allocated")
+        .description("Heap allocated while computing an AI strike")
+        .baseUnit("bytes")
+        .tag("difficulty", difficulty.getValue())
+        .register(meterRegistry));
+    }
+  }
+
+  public void record(AIDifficultyType difficulty, AIMoveProbe probe) {
+    latencyTimers.get(difficulty).record(probe.getElapsedNanos(), TimeUnit.NANOSECONDS);
+    cpuTimers.get(difficulty).record(probe.getCpuNanos(), TimeUnit.NANOSECONDS);
+    allocationSummaries.get(difficulty).record(probe.getAllocatedBytes());
+  }
+}
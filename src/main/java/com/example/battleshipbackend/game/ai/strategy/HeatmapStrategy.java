@@ -0,0 +1,41 @@
+package com.example.battleshipbackend.game.ai.strategy;
+
+import com.example.battleshipbackend.game.ai.AIMoveProbe;
+import com.example.battleshipbackend.game.ai.PlacementDensityMap;
+import com.example.battleshipbackend.game.ai.TargetBoard;
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.Coordinate;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Always strikes where most placements of the ships still afloat fit, without following up on hits.
+ */
+@Log4j2
+@Component
+public class HeatmapStrategy implements AIStrategy {
+
+  @Override
+  public AIDifficultyType getDifficulty() {
+    return AIDifficultyType.MEDIUM;
+  }
+
+  @Override
+  public Mono<Coordinate> getNextStrike(TargetBoard targetBoard, AIMoveProbe probe) {
+    return Mono.justOrEmpty(probe.measure(() -> getBestStrikeFromHeatmap(targetBoard)));
+  }
+
+  public Coordinate getBestStrikeFromHeatmap(TargetBoard targetBoard) {
+    PlacementDensityMap densityMap = targetBoard.getDensityMap();
+    Bitboard struck = targetBoard.getStrikes().getStruck();
+    densityMap.update(struck);
+    int bestCell = densityMap.getBestCell(struck, targetBoard.getRemainingLengthMask());
+    if (bestCell < 0) {
+      log.warn("No valid coordinates found in heatmap: alreadyStruck {}", struck);
+      return null;
+    }
+    return Coordinate.ofCell(bestCell);
+  }
+}
@@ -0,0 +1,171 @@
+package com.example.battleshipbackend.game.ai.strategy;
+
+import com.example.battleshipbackend.game.ai.AIMoveProbe;
+import com.example.battleshipbackend.game.ai.TargetBoard;
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.Coordinate;
+import com.example.battleshipbackend.game.model.Ship;
+import com.example.battleshipbackend.game.model.Strike;
+import com.example.battleshipbackend.game.model.StrikeBoard;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hunts with the heatmap and, once it has hits on a ship that is not sunk, targets the cells next to them.
+ */
+@Log4j2
+@Component
+public class HeuristicStrategy implements AIStrategy {
+
+  private final HeatmapStrategy heatmapStrategy;
+  private final RandomStrategy randomStrategy;
+
+  @Autowired
+  public HeuristicStrategy(HeatmapStrategy heatmapStrategy, RandomStrategy randomStrategy) {
+    this.heatmapStrategy = heatmapStrategy;
+    this.randomStrategy = randomStrategy;
+  }
+
+  @Override
+  public AIDifficultyType getDifficulty() {
+    return AIDifficultyType.NORMAL;
+  }
+
+  @Override
+  public Mono<Coordinate> getNextStrike(TargetBoard targetBoard, AIMoveProbe probe) {
+    return Mono.justOrEmpty(probe.measure(() -> getHeuristicStrike(targetBoard)));
+  }
+
+  public Coordinate getHeuristicStrike(TargetBoard targetBoard) {
+    StrikeBoard strikes = targetBoard.getStrikes();
+    Bitboard struck = strikes.getStruck();
+    Coordinate[] hits = getHitsOfNotSunkenShips(targetBoard.getSunkenShips(), strikes);
+    if (hits.length > 1) {
+      Coordinate strikeCoordinateFromConnectedHits = getNewStrikeFromConnectedHits(struck, hits);
+      if (strikeCoordinateFromConnectedHits != null) {
+        return strikeCoordinateFromConnectedHits;
+      }
+    }
+    if (hits.length > 0) {
+      Coordinate strikeCoordinateFromSingleHit = getNewStrikeFromSingleHit(struck, hits);
+      if (strikeCoordinateFromSingleHit != null) {
+        return strikeCoordinateFromSingleHit;
+      }
+      log.warn("No valid coordinates found from single hit: strikes {}, hits {}", strikes.getStrikes(), hits);
+    }
+    Coordinate bestStrikeFromHeatmap = heatmapStrategy.getBestStrikeFromHeatmap(targetBoard);
+    if (bestStrikeFromHeatmap != null) {
+      return bestStrikeFromHeatmap;
+    }
+    Coordinate randomStrike = randomStrategy.getRandomStrike(struck);
+    if (randomStrike == null) {
+      log.warn("No valid randomStrike: strikes {}", strikes.getStrikes());
+    }
+    return randomStrike;
+  }
+
+  private Coordinate[] getHitsOfNotSunkenShips(List<Ship> sunkenShips, StrikeBoard strikes) {
+    Bitboard sunkenShipBoard = Bitboard.of(sunkenShips);
+    return strikes.getStrikes().stream()
+      .filter(Strike::isHit)
+      .map(Strike::getCoordinate)
+      .filter(hitCoordinate -> !sunkenShipBoard.contains(hitCoordinate.getRow(), hitCoordinate.getColumn()))
+      .toArray(Coordinate[]::new);
+  }
+
+  private Coordinate getNewStrikeFromConnectedHits(Bitboard struck, Coordinate[] hits) {
+    for (int i = 0; i < hits.length; i++) {
+      for (int j = i + 1; j < hits.length; j++) {
+        Coordinate hit1 = hits[i];
+        Coordinate hit2 = hits[j];
+        if (hit1.getRow() == hit2.getRow() && Math.abs(hit1.getColumn() - hit2.getColumn()) == 1) {
+          int row = hit1.getRow();
+          int minCol = Math.min(hit1.getColumn(), hit2.getColumn());
+          int maxCol = Math.max(hit1.getColumn(), hit2.getColumn());
+          if (isValidCoordinate(row, maxCol + 1) && !struck.contains(row, maxCol + 1)) {
+            return Coordinate.of(row, maxCol + 1);
+          }
+          if (isValidCoordinate(row, minCol - 1) && !struck.contains(row, minCol - 1)) {
+            return Coordinate.of(row, minCol - 1);
+          }
+        }
+        if (hit1.getColumn() == hit2.getColumn() && Math.abs(hit1.getRow() - hit2.getRow()) == 1) {
+          int col = hit1.getColumn();
+          int minRow = Math.min(hit1.getRow(), hit2.getRow());
+          int maxRow = Math.max(hit1.getRow(), hit2.getRow());
+          if (isValidCoordinate(maxRow + 1, col) && !struck.contains(maxRow + 1, col)) {
+            return Coordinate.of(maxRow + 1, col);
+          }
+          if (isValidCoordinate(minRow - 1, col) && !struck.contains(minRow - 1, col)) {
+            return Coordinate.of(minRow - 1, col);
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private Coordinate getNewStrikeFromSingleHit(Bitboard struck, Coordinate[] hits) {
+    for (Coordinate hit : hits) {
+      int row = hit.getRow();
+      int column = hit.getColumn();
+      int[][] directions = {
+        {0, 1},
+        {0, -1},
+        {1, 0},
+        {-1, 0}
+      };
+      record DirectionSpace(int[] direction, int spaces) {
+
+      }
+      DirectionSpace[] directionSpaces = new DirectionSpace[directions.length];
+      for (int i = 0; i < directions.length; i++) {
+        int dRow = directions[i][0];
+        int dCol = directions[i][1];
+        int spaces = countFreeSpacesInDirection(struck, row, column, dRow, dCol);
+        directionSpaces[i] = new DirectionSpace(directions[i], spaces);
+      }
+      Arrays.sort(directionSpaces, (a, b) -> Integer.compare(b.spaces(), a.spaces()));
+
+      int maxSpaces = directionSpaces[0].spaces();
+      List<DirectionSpace> bestDirections = new ArrayList<>();
+      for (DirectionSpace directionSpace : directionSpaces) {
+        if (directionSpace.spaces() == maxSpaces) {
+          bestDirections.add(directionSpace);
+        } else {
+          break;
+        }
+      }
+      DirectionSpace chosenDirection = bestDirections.get(ThreadLocalRandom.current().nextInt(bestDirections.size()));
+      int newRow = row + chosenDirection.direction()[0];
+      int newCol = column + chosenDirection.direction()[1];
+      if (isValidCoordinate(newRow, newCol) && !struck.contains(newRow, newCol)) {
+        return Coordinate.of(newRow, newCol);
+      }
+    }
+    return null;
+  }
+
+  private int countFreeSpacesInDirection(Bitboard struck, int startRow, int startCol, int dRow, int dCol) {
+    int count = 0;
+    int row = startRow + dRow;
+    int col = startCol + dCol;
+    while (isValidCoordinate(row, col) && !struck.contains(row, col)) {
+      count++;
+      row += dRow;
+      col += dCol;
+    }
+    return count;
+  }
+
+  private boolean isValidCoordinate(int row, int column) {
+    return row >= 0 && row < 10 && column >= 0 && column < 10;
+  }
+}
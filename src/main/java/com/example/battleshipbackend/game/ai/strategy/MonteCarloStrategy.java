@@ -0,0 +1,52 @@
+package com.example.battleshipbackend.game.ai.strategy;
+
+import com.example.battleshipbackend.game.ai.AIMoveProbe;
+import com.example.battleshipbackend.game.ai.BoardObservation;
+import com.example.battleshipbackend.game.ai.EndgameSolver;
+import com.example.battleshipbackend.game.ai.MonteCarloStrikeSelector;
+import com.example.battleshipbackend.game.ai.TargetBoard;
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
+import com.example.battleshipbackend.game.model.Coordinate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Samples fleet layouts consistent with the board, or enumerates all of them once the search space is small.
+ */
+@Component
+public class MonteCarloStrategy implements AIStrategy {
+
+  private final HeuristicStrategy heuristicStrategy;
+  private final MonteCarloStrikeSelector monteCarloStrikeSelector;
+  private final EndgameSolver endgameSolver;
+
+  @Autowired
+  public MonteCarloStrategy(
+    HeuristicStrategy heuristicStrategy,
+    MonteCarloStrikeSelector monteCarloStrikeSelector,
+    EndgameSolver endgameSolver) {
+    this.heuristicStrategy = heuristicStrategy;
+    this.monteCarloStrikeSelector = monteCarloStrikeSelector;
+    this.endgameSolver = endgameSolver;
+  }
+
+  @Override
+  public AIDifficultyType getDifficulty() {
+    return AIDifficultyType.HARD;
+  }
+
+  /*
+  The heuristic strike is cheap and computed on the game's thread, together with the board snapshot,
+  as the fallback when the pool cannot answer within the time budget.
+   */
+  @Override
+  public Mono<Coordinate> getNextStrike(TargetBoard targetBoard, AIMoveProbe probe) {
+    Coordinate heuristicStrike = probe.measure(() -> heuristicStrategy.getHeuristicStrike(targetBoard));
+    BoardObservation observation = probe.measure(() -> BoardObservation.of(targetBoard));
+    if (endgameSolver.isApplicable(observation)) {
+      return endgameSolver.selectStrike(observation, heuristicStrike, probe);
+    }
+    return monteCarloStrikeSelector.selectStrike(observation, heuristicStrike, probe);
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.battleshipbackend.game.ai.strategy;
+
+import com.example.battleshipbackend.game.ai.AIMoveProbe;
+import com.example.battleshipbackend.game.ai.TargetBoard;
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.Coordinate;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+public class RandomStrategy implements AIStrategy {
+
+  @Override
+  public AIDifficultyType getDifficulty() {
+    return AIDifficultyType.EASY;
+  }
+
+  @Override
+  public Mono<Coordinate> getNextStrike(TargetBoard targetBoard, AIMoveProbe probe) {
+    return Mono.justOrEmpty(probe.measure(() -> getRandomStrike(targetBoard.getStrikes().getStruck())));
+  }
+
+  /*
+  Picks uniformly among the cells not struck yet, returns null if there are none.
+   */
+  public Coordinate getRandomStrike(Bitboard struck) {
+    int freeCells = Bitboard.CELL_COUNT - struck.count();
+    if (freeCells == 0) {
+      return null;
+    }
+    int skip = ThreadLocalRandom.current().nextInt(freeCells);
+    for (int cell = 0; cell < Bitboard.CELL_COUNT; cell++) {
+      if (!struck.contains(cell) && skip-- == 0) {
+        return Coordinate.ofCell(cell);
+      }
+    }
+    return null;
+  }
+}
@@ -3,37 +3,53 @@ package com.example.battleshipbackend.game.builder;
 import com.example.battleshipbackend.game.converter.GameDtoConverter;
 import com.example.battleshipbackend.game.dto.response.GameEvent;
 import com.example.battleshipbackend.game.enums.GameEventType;
+import com.example.battleshipbackend.game.enums.PlayerSlotType;
 import com.example.battleshipbackend.game.enums.GameStateType;
 import com.example.battleshipbackend.game.model.GameSession;
-import com.example.battleshipbackend.game.resolver.GameSessionResolver;
+import com.example.battleshipbackend.game.model.PlayerView;
+import com.example.battleshipbackend.game.model.Ship;
+import com.example.battleshipbackend.game.model.StrikeBoard;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.socket.WebSocketSession;
 
 @Component
 public class GameEventBuilder {
-  private final GameSessionResolver gameSessionResolver;
+  // Events without game data are shared, so frames for them can be encoded once. They must not be modified.
+  private static final GameEvent OPPONENT_LEFT_EVENT = GameEvent.builder().eventType(GameEventType.OPPONENT_LEFT).build();
+  private static final GameEvent OWN_TIMEOUT_EVENT = GameEvent.builder().eventType(GameEventType.TIMEOUT_OWN).build();
+  private static final GameEvent OPPONENT_TIMEOUT_EVENT = GameEvent.builder().eventType(GameEventType.TIMEOUT_OPPONENT).build();
+  private static final GameEvent NO_GAME_EVENT = GameEvent.builder().eventType(GameEventType.NO_GAME).build();
+  private static final GameEvent WRONG_GAME_ID_EVENT = GameEvent.builder().eventType(GameEventType.WRONG_GAME_ID).build();
+  private static final GameEvent EMPTY_EVENT = GameEvent.builder().build();
+  private static final List<GameEvent> STATIC_EVENTS = List.of(
+      OPPONENT_LEFT_EVENT,
+      OWN_TIMEOUT_EVENT,
+      OPPONENT_TIMEOUT_EVENT,
+      NO_GAME_EVENT,
+      WRONG_GAME_ID_EVENT,
+      EMPTY_EVENT);
+
   private final GameDtoConverter gameDtoConverter;
 
   @Autowired
-  public GameEventBuilder(GameSessionResolver gameSessionResolver, GameDtoConverter gameDtoConverter) {
-    this.gameSessionResolver = gameSessionResolver;
+  public GameEventBuilder(GameDtoConverter gameDtoConverter) {
     this.gameDtoConverter = gameDtoConverter;
   }
 
-  public GameEvent getWinEvent(WebSocketSession webSocketSession, GameSession gameSession) {
+  public GameEvent getWinEvent(PlayerView playerView) {
     return GameEvent.builder()
         .eventType(GameEventType.WON)
-        .ownStrikes(gameSessionResolver.getCurrentSessionStrikes(webSocketSession, gameSession))
-        .opponentSunkenShips(gameDtoConverter.toListOfShipDTO(gameSessionResolver.getAdversarySunkenShips(webSocketSession, gameSession)))
+        .ownStrikes(playerView.getOwnStrikes())
+        .opponentSunkenShips(gameDtoConverter.toListOfShipDTO(playerView.getAdversarySunkenShips()))
         .build();
   }
 
-  public GameEvent getLoseEvent(WebSocketSession webSocketSession, GameSession gameSession) {
+  public GameEvent getLoseEvent(PlayerView playerView) {
     return GameEvent.builder()
         .eventType(GameEventType.LOST)
-        .opponentStrikes(gameSessionResolver.getAdversaryStrikes(webSocketSession, gameSession))
-        .ownSunkenShips(gameDtoConverter.toListOfShipDTO(gameSessionResolver.getCurrentSessionSunkenShips(webSocketSession, gameSession)))
+        .opponentStrikes(playerView.getAdversaryStrikes())
+        .ownSunkenShips(gameDtoConverter.toListOfShipDTO(playerView.getOwnSunkenShips()))
         .build();
   }
 
@@ -67,36 +83,61 @@ public class GameEventBuilder {
         .build();
   }
 
-  public GameEvent getCurrentSessionStrikeEvent(WebSocketSession webSocketSession, GameSession gameSession, boolean isShipSunk) {
+  public GameEvent getCurrentSessionStrikeEvent(PlayerView playerView, boolean isShipSunk) {
+    GameSession gameSession = playerView.getGameSession();
+    if (playerView.isOwnDeltaEvents()) {
+      return getDeltaStrikeEvent(
+          GameEventType.TURN_OPPONENT,
+          playerView.getOwnStrikeBoard(),
+          isShipSunk ? playerView.getAdversarySunkenShips() : null,
+          gameSession);
+    }
     GameEvent event = GameEvent.builder()
         .eventType(GameEventType.TURN_OPPONENT)
-        .ownStrikes(gameSessionResolver.getCurrentSessionStrikes(webSocketSession, gameSession))
+        .ownStrikes(playerView.getOwnStrikes())
+        .sequence(gameSession.getSequence())
         .timeLeft(gameSession.getTimeLeft())
         .build();
     if (isShipSunk) {
-      event.setOpponentSunkenShips(
-          gameDtoConverter.toListOfShipDTO(gameSessionResolver.getAdversarySunkenShips(webSocketSession, gameSession)));
+      event.setOpponentSunkenShips(gameDtoConverter.toListOfShipDTO(playerView.getAdversarySunkenShips()));
     }
     return event;
   }
 
-  public GameEvent getAdversaryStrikeEvent(WebSocketSession webSocketSession, GameSession gameSession, boolean isShipSunk) {
+  public GameEvent getAdversaryStrikeEvent(PlayerView playerView, boolean isShipSunk) {
+    GameSession gameSession = playerView.getGameSession();
+    if (playerView.isAdversaryDeltaEvents()) {
+      return getDeltaStrikeEvent(
+          GameEventType.TURN_OWN,
+          playerView.getOwnStrikeBoard(),
+          isShipSunk ? playerView.getAdversarySunkenShips() : null,
+          gameSession);
+    }
     GameEvent event = GameEvent.builder()
         .eventType(GameEventType.TURN_OWN)
-        .opponentStrikes(gameSessionResolver.getCurrentSessionStrikes(webSocketSession, gameSession))
+        .opponentStrikes(playerView.getOwnStrikes())
+        .sequence(gameSession.getSequence())
         .timeLeft(gameSession.getTimeLeft())
         .build();
     if (isShipSunk) {
-      event.setOwnSunkenShips(gameDtoConverter.toListOfShipDTO(gameSessionResolver.getAdversarySunkenShips(webSocketSession, gameSession)));
-      event.setOwnActiveShips(gameDtoConverter.toListOfShipDTO(gameSessionResolver.getAdversaryActiveShips(webSocketSession, gameSession)));
+      event.setOwnSunkenShips(gameDtoConverter.toListOfShipDTO(playerView.getAdversarySunkenShips()));
+      event.setOwnActiveShips(gameDtoConverter.toListOfShipDTO(playerView.getAdversaryActiveShips()));
     }
     return event;
   }
 
   public GameEvent getAiStrikeEvent(GameSession gameSession, boolean isShipSunk) {
+    if (gameSession.isDeltaEventsPlayer1()) {
+      return getDeltaStrikeEvent(
+          GameEventType.TURN_OWN,
+          gameSession.getStrikeBoardPlayer2(),
+          isShipSunk ? gameSession.getSunkenShipsPlayer1() : null,
+          gameSession);
+    }
     GameEvent event = GameEvent.builder()
         .eventType(GameEventType.TURN_OWN)
         .opponentStrikes(gameSession.getStrikesPlayer2())
+        .sequence(gameSession.getSequence())
         .timeLeft(gameSession.getTimeLeft())
         .build();
     if (isShipSunk) {
@@ -115,6 +156,7 @@ public class GameEventBuilder {
         .ownSunkenShips(gameDtoConverter.toListOfShipDTO(gameSession.getSunkenShipsPlayer1()))
         .opponentSunkenShips(gameDtoConverter.toListOfShipDTO(gameSession.getSunkenShipsPlayer2()))
         .timeLeft(gameSession.getTimeLeft())
+        .sequence(gameSession.getSequence())
         .build();
     if (gameSession.getGameState() == GameStateType.TURN_PLAYER1) {
       event.setEventType(GameEventType.TURN_OWN);
@@ -133,6 +175,7 @@ public class GameEventBuilder {
         .ownSunkenShips(gameDtoConverter.toListOfShipDTO(gameSession.getSunkenShipsPlayer2()))
         .opponentSunkenShips(gameDtoConverter.toListOfShipDTO(gameSession.getSunkenShipsPlayer1()))
         .timeLeft(gameSession.getTimeLeft())
+        .sequence(gameSession.getSequence())
         .build();
     if (gameSession.getGameState() == GameStateType.TURN_PLAYER2) {
       event.setEventType(GameEventType.TURN_OWN);
@@ -142,12 +185,56 @@ public class GameEventBuilder {
     return event;
   }
 
+  /*
+  Full state for a player who detected a gap in the sequence of delta events.
+   */
+  public GameEvent getSyncEvent(PlayerView playerView) {
+    return playerView.getSlot() == PlayerSlotType.PLAYER1
+        ? getReconnectAsPlayer1Event(playerView.getGameSession())
+        : getReconnectAsPlayer2Event(playerView.getGameSession());
+  }
+
   public GameEvent getOpponentLeftEvent() {
-    return GameEvent.builder().eventType(GameEventType.OPPONENT_LEFT).build();
+    return OPPONENT_LEFT_EVENT;
+  }
+
+  public GameEvent getTimeoutEvent(boolean isOwnTimeout) {
+    return isOwnTimeout ? OWN_TIMEOUT_EVENT : OPPONENT_TIMEOUT_EVENT;
+  }
+
+  public GameEvent getNoGameEvent() {
+    return NO_GAME_EVENT;
+  }
+
+  public GameEvent getWrongGameIdEvent() {
+    return WRONG_GAME_ID_EVENT;
   }
 
   public GameEvent getEmptyEvent() {
-    return GameEvent.builder().build();
+    return EMPTY_EVENT;
+  }
+
+  /**
+   * The shared instances returned for events without game data.
+   */
+  public List<GameEvent> getStaticEvents() {
+    return STATIC_EVENTS;
+  }
+
+  /*
+  Delta events carry only the strike just made and the ship it sunk, if any. The client applies them to the state it holds.
+   */
+  private GameEvent getDeltaStrikeEvent(GameEventType eventType, StrikeBoard strikes, List<Ship> sunkenShips, GameSession gameSession) {
+    GameEvent event = GameEvent.builder()
+        .eventType(eventType)
+        .sequence(gameSession.getSequence())
+        .lastStrike(strikes.getLastStrike())
+        .timeLeft(gameSession.getTimeLeft())
+        .build();
+    if (sunkenShips != null && !sunkenShips.isEmpty()) {
+      event.setSunkenShip(gameDtoConverter.toShipDTO(sunkenShips.get(sunkenShips.size() - 1)));
+    }
+    return event;
   }
 }
 
@@ -0,0 +1,73 @@
+package com.example.battleshipbackend.game.concurrent;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Serial executor owned by a single game.
+ * Tasks submitted to the same mailbox run one at a time in submission order, on whichever worker of the shared scheduler
+ * picks up the drain. Different games drain independently, so there is no lock shared between games.
+ */
+@Log4j2
+public class GameMailbox {
+
+  private static final ThreadLocal<GameMailbox> DRAINING = new ThreadLocal<>();
+
+  private final Scheduler scheduler;
+  private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingTasks = new AtomicInteger();
+
+  public GameMailbox(Scheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  public void execute(Runnable task) {
+    tasks.offer(task);
+    if (pendingTasks.getAndIncrement() == 0) {
+      scheduler.schedule(this::drain);
+    }
+  }
+
+  /**
+   * Runs the action inside the mailbox when subscribed to.
+   * The returned Mono is subscribed to from within the same task, so its synchronous part also runs in the mailbox.
+   */
+  public <T> Mono<T> submit(Supplier<Mono<T>> action) {
+    return Mono.<Mono<T>>create(sink -> execute(() -> {
+      try {
+        sink.success(action.get());
+      } catch (Throwable throwable) {
+        sink.error(throwable);
+      }
+    })).flatMap(Function.identity());
+  }
+
+  /**
+   * Whether the calling thread is running a task of this mailbox, so it may read and change the game directly.
+   */
+  public boolean isCurrentThreadDraining() {
+    return DRAINING.get() == this;
+  }
+
+  private void drain() {
+    DRAINING.set(this);
+    try {
+      do {
+        Runnable task = tasks.poll();
+        try {
+          task.run();
+        } catch (Throwable throwable) {
+          log.error("Game mailbox task failed: {}", throwable.getMessage(), throwable);
+        }
+      } while (pendingTasks.decrementAndGet() != 0);
+    } finally {
+      DRAINING.remove();
+    }
+  }
+}
@@ -32,7 +32,7 @@ public class GameDtoConverter {
     return new Ship(shipDTO.getId(), getCoordinatesForShip(shipDTO));
   }
 
-  private ShipDTO toShipDTO(Ship ship) {
+  public ShipDTO toShipDTO(Ship ship) {
     Coordinate coordinate = getCoordinateForShipDTO(ship.getCoordinates());
     return ShipDTO.builder()
         .id(ship.getId())
@@ -59,9 +59,9 @@ public class GameDtoConverter {
     List<Coordinate> coordinates = new ArrayList<>();
     for (int i = 0; i < shipDTO.getLength(); i++) {
       if (shipDTO.getIsHorizontal()) {
-        coordinates.add(new Coordinate(shipDTO.getRow(), (shipDTO.getColumn() + i)));
+        coordinates.add(Coordinate.of(shipDTO.getRow(), (shipDTO.getColumn() + i)));
       } else {
-        coordinates.add(new Coordinate((shipDTO.getRow() + i), shipDTO.getColumn()));
+        coordinates.add(Coordinate.of((shipDTO.getRow() + i), shipDTO.getColumn()));
       }
     }
     return coordinates;
@@ -1,6 +1,7 @@
 package com.example.battleshipbackend.game.dto.request;
 
 import com.example.battleshipbackend.game.dto.ShipDTO;
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
 import com.example.battleshipbackend.game.enums.GameCommandType;
 import java.util.List;
 import lombok.Data;
@@ -13,4 +14,6 @@ public class GameCommand {
   private Integer strikeRow;
   private Integer strikeColumn;
   private List<ShipDTO> ships;
+  private AIDifficultyType difficulty;
+  private Boolean isDeltaEvents;
 }
@@ -3,6 +3,7 @@ package com.example.battleshipbackend.game.dto.response;
 import com.example.battleshipbackend.game.dto.ShipDTO;
 import com.example.battleshipbackend.game.enums.GameEventType;
 import com.example.battleshipbackend.game.model.Strike;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.Builder;
 import lombok.Data;
@@ -19,4 +20,10 @@ public class GameEvent {
   private List<ShipDTO> ownActiveShips;
   private List<ShipDTO> ownSunkenShips;
   private List<ShipDTO> opponentSunkenShips;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Integer sequence;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Strike lastStrike;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private ShipDTO sunkenShip;
 }
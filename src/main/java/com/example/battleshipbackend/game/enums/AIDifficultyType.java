@@ -0,0 +1,39 @@
+package com.example.battleshipbackend.game.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+
+@Getter
+public enum AIDifficultyType {
+  EASY("EASY"),
+  MEDIUM("MEDIUM"),
+  NORMAL("NORMAL"),
+  HARD("HARD");
+
+  private final String value;
+
+  AIDifficultyType(String value) {
+    this.value = value;
+  }
+
+  @JsonValue
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+  @JsonCreator
+  public static AIDifficultyType fromValue(String value) {
+    for (AIDifficultyType b : AIDifficultyType.values()) {
+      if (b.value.equals(value)) {
+        return b;
+      }
+    }
+    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.battleshipbackend.game.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum PlayerSlotType {
+  PLAYER1("PLAYER1"),
+  PLAYER2("PLAYER2");
+
+  private final String value;
+
+  PlayerSlotType(String value) {
+    this.value = value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+}
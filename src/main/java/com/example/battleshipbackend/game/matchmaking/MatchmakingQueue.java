@@ -0,0 +1,36 @@
+package com.example.battleshipbackend.game.matchmaking;
+
+import com.example.battleshipbackend.game.model.GameSession;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.springframework.stereotype.Component;
+
+/**
+ * Queue of public games waiting for a second player.
+ * A seat is handed out by an atomic claim on the game itself, so two concurrent joins can never be paired into the same
+ * game. Games that are closed while waiting are withdrawn by claiming their seat and are dropped lazily on the next poll.
+ */
+@Component
+public class MatchmakingQueue {
+
+  private final Queue<GameSession> waitingGames = new ConcurrentLinkedQueue<>();
+
+  public void enqueue(GameSession gameSession) {
+    gameSession.openSeat();
+    waitingGames.offer(gameSession);
+  }
+
+  public GameSession claimWaitingGame() {
+    GameSession gameSession;
+    while ((gameSession = waitingGames.poll()) != null) {
+      if (gameSession.claimSeat()) {
+        return gameSession;
+      }
+    }
+    return null;
+  }
+
+  public void withdraw(GameSession gameSession) {
+    gameSession.claimSeat();
+  }
+}
@@ -0,0 +1,148 @@
+package com.example.battleshipbackend.game.model;
+
+import java.util.List;
+
+/**
+ * Set of cells on the 10x10 board packed into two longs.
+ * Cell index is row * 10 + column, cells 0-63 live in low and 64-99 in high.
+ */
+public final class Bitboard {
+
+  public static final int BOARD_SIZE = 10;
+  public static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+
+  private long low;
+  private long high;
+
+  public Bitboard() {
+  }
+
+  public Bitboard(long low, long high) {
+    this.low = low;
+    this.high = high;
+  }
+
+  public static Bitboard of(List<Ship> ships) {
+    Bitboard bitboard = new Bitboard();
+    for (Ship ship : ships) {
+      bitboard.addAll(ship.getCells());
+    }
+    return bitboard;
+  }
+
+  public static int toCell(int row, int column) {
+    return row * BOARD_SIZE + column;
+  }
+
+  public static int rowOf(int cell) {
+    return cell / BOARD_SIZE;
+  }
+
+  public static int columnOf(int cell) {
+    return cell % BOARD_SIZE;
+  }
+
+  public static boolean isOnBoard(int row, int column) {
+    return row >= 0 && row < BOARD_SIZE && column >= 0 && column < BOARD_SIZE;
+  }
+
+  public boolean contains(int cell) {
+    return cell < 64 ? (low & (1L << cell)) != 0 : (high & (1L << (cell - 64))) != 0;
+  }
+
+  public boolean contains(int row, int column) {
+    return contains(toCell(row, column));
+  }
+
+  public void add(int cell) {
+    if (cell < 64) {
+      low |= 1L << cell;
+    } else {
+      high |= 1L << (cell - 64);
+    }
+  }
+
+  public void remove(int cell) {
+    if (cell < 64) {
+      low &= ~(1L << cell);
+    } else {
+      high &= ~(1L << (cell - 64));
+    }
+  }
+
+  public void addAll(Bitboard other) {
+    low |= other.low;
+    high |= other.high;
+  }
+
+  public void set(Bitboard other) {
+    low = other.low;
+    high = other.high;
+  }
+
+  public void clear() {
+    low = 0L;
+    high = 0L;
+  }
+
+  public boolean intersects(Bitboard other) {
+    return (low & other.low) != 0 || (high & other.high) != 0;
+  }
+
+  public boolean containsAll(Bitboard other) {
+    return (other.low & ~low) == 0 && (other.high & ~high) == 0;
+  }
+
+  public int count() {
+    return Long.bitCount(low) + Long.bitCount(high);
+  }
+
+  public boolean isEmpty() {
+    return low == 0 && high == 0;
+  }
+
+  /**
+   * Returns the first cell at or after fromCell that is in the set, or -1 when there is none.
+   */
+  public int nextCell(int fromCell) {
+    if (fromCell < 64) {
+      long remainingLow = low & (-1L << fromCell);
+      if (remainingLow != 0) {
+        return Long.numberOfTrailingZeros(remainingLow);
+      }
+      fromCell = 64;
+    }
+    if (fromCell >= CELL_COUNT) {
+      return -1;
+    }
+    long remainingHigh = high & (-1L << (fromCell - 64));
+    return remainingHigh == 0 ? -1 : 64 + Long.numberOfTrailingZeros(remainingHigh);
+  }
+
+  public long getLow() {
+    return low;
+  }
+
+  public long getHigh() {
+    return high;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof Bitboard other && low == other.low && high == other.high;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(low) * 31 + Long.hashCode(high);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    for (int cell = nextCell(0); cell >= 0; cell = nextCell(cell + 1)) {
+      builder.append(builder.isEmpty() ? "" : ",").append(cell);
+    }
+    return "Bitboard[" + builder + "]";
+  }
+}
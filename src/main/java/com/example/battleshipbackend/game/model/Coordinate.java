@@ -1,11 +1,42 @@
 package com.example.battleshipbackend.game.model;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-
-@AllArgsConstructor
-@Data
-public class Coordinate {
-    private int row;
-    private int column;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable board coordinate. Coordinates on the board are canonical instances from a static table,
+ * only off-board coordinates (from invalid client input) are allocated.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class Coordinate {
+    private static final Coordinate[] CELLS = new Coordinate[Bitboard.CELL_COUNT];
+
+    static {
+        for (int cell = 0; cell < Bitboard.CELL_COUNT; cell++) {
+            CELLS[cell] = new Coordinate(Bitboard.rowOf(cell), Bitboard.columnOf(cell));
+        }
+    }
+
+    private final int row;
+    private final int column;
+
+    private Coordinate(int row, int column) {
+        this.row = row;
+        this.column = column;
+    }
+
+    public static Coordinate of(int row, int column) {
+        return Bitboard.isOnBoard(row, column) ? CELLS[Bitboard.toCell(row, column)] : new Coordinate(row, column);
+    }
+
+    public static Coordinate ofCell(int cell) {
+        return CELLS[cell];
+    }
+
+    public int toCell() {
+        return Bitboard.toCell(row, column);
+    }
 }
@@ -1,37 +1,29 @@
 package com.example.battleshipbackend.game.model;
 
-import com.example.battleshipbackend.game.dto.response.GameEvent;
-import com.example.battleshipbackend.game.enums.GameEventType;
+import com.example.battleshipbackend.game.ai.TargetBoard;
+import com.example.battleshipbackend.game.concurrent.GameMailbox;
 import com.example.battleshipbackend.game.enums.GameStateType;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.util.Timeout;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
-import lombok.extern.log4j.Log4j2;
 import org.springframework.web.reactive.socket.WebSocketSession;
-import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-@Log4j2
 @Getter
 @Setter
 public class GameSession {
-  private final ObjectMapper objectMapper;
-  private final ScheduledExecutorService executorService;
+  private final GameMailbox mailbox;
 
-  public GameSession(ScheduledExecutorService executorService, ObjectMapper objectMapper) {
-    this.executorService = executorService;
-    this.objectMapper = objectMapper;
+  public GameSession(Scheduler mailboxScheduler) {
+    this.mailbox = new GameMailbox(mailboxScheduler);
   }
 
-  private ScheduledFuture<?> scheduledFuture;
-  private static final long TIMEOUT_DURATION = 120L;
-  private static final TimeUnit TIMEOUT_UNIT = TimeUnit.SECONDS;
-
   private String id;
   private GameStateType gameState = GameStateType.WAITING_OPPONENT;
   private WebSocketSession sessionPlayer1;
@@ -41,82 +33,92 @@ public class GameSession {
   private boolean isAgainstFriend = false;
   private boolean isPlayer1Connected = false;
   private boolean isPlayer2Connected = false;
-  private final List<Strike> strikesPlayer1 = new ArrayList<>();
-  private final List<Strike> strikesPlayer2 = new ArrayList<>();
+  private boolean isDeltaEventsPlayer1 = false;
+  private boolean isDeltaEventsPlayer2 = false;
+  private TargetBoard aiTargetBoard;
+  private final StrikeBoard strikeBoardPlayer1 = new StrikeBoard();
+  private final StrikeBoard strikeBoardPlayer2 = new StrikeBoard();
+  private final Bitboard shipBoardPlayer1 = new Bitboard();
+  private final Bitboard shipBoardPlayer2 = new Bitboard();
   private final List<Ship> activeShipsPlayer1 = new ArrayList<>();
   private final List<Ship> activeShipsPlayer2 = new ArrayList<>();
   private final List<Ship> sunkenShipsPlayer1 = new ArrayList<>();
   private final List<Ship> sunkenShipsPlayer2 = new ArrayList<>();
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private Timeout turnTimeout;
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private long turnDeadlineMillis;
+  @Getter(AccessLevel.NONE)
+  private final AtomicBoolean isSeatOpen = new AtomicBoolean(false);
 
-  public void startTimer() {
+  /**
+   * Replaces the running turn timeout, the previous one is cancelled.
+   */
+  public void setTurnTimeout(Timeout turnTimeout, Duration duration) {
     removeTimer();
-    scheduledFuture = executorService.schedule(
-        this::executeTimeout,
-        TIMEOUT_DURATION,
-        TIMEOUT_UNIT
-    );
+    this.turnTimeout = turnTimeout;
+    this.turnDeadlineMillis = System.currentTimeMillis() + duration.toMillis();
   }
 
   public void removeTimer() {
-    if (scheduledFuture != null && !scheduledFuture.isDone()) {
-      scheduledFuture.cancel(false);
+    if (turnTimeout != null) {
+      turnTimeout.cancel();
+      turnTimeout = null;
     }
   }
 
+  /**
+   * A timeout that fired while a move was rescheduling it is no longer the current one and must be ignored.
+   */
+  public boolean isCurrentTurnTimeout(Timeout timeout) {
+    return turnTimeout == timeout;
+  }
+
   public Long getTimeLeft() {
-    if (scheduledFuture == null) {
+    if (turnTimeout == null) {
       return 0L;
     }
-    return scheduledFuture.getDelay(TimeUnit.SECONDS);
+    return TimeUnit.MILLISECONDS.toSeconds(turnDeadlineMillis - System.currentTimeMillis());
   }
 
-  private void executeTimeout() {
-    if (objectMapper == null) {
-      log.error("ObjectMapper is null in executeTimeout");
-      return;
-    }
-    try {
-      GameEvent ownTimeoutEvent = GameEvent.builder()
-          .eventType(GameEventType.TIMEOUT_OWN)
-          .build();
-      GameEvent opponentTimeoutEvent = GameEvent.builder()
-          .eventType(GameEventType.TIMEOUT_OPPONENT)
-          .build();
-      String message1 = objectMapper.writeValueAsString(
-          gameState == GameStateType.TURN_PLAYER1 ? ownTimeoutEvent : opponentTimeoutEvent
-      );
-      String message2 = objectMapper.writeValueAsString(
-          gameState == GameStateType.TURN_PLAYER1 ? opponentTimeoutEvent : ownTimeoutEvent
-      );
-      if (isPlayer1Connected() && sessionPlayer1 != null) {
-        sessionPlayer1.send(Mono.just(sessionPlayer1.textMessage(message1))).subscribe();
-      }
-      if (isPlayer2Connected() && sessionPlayer2 != null) {
-        sessionPlayer2.send(Mono.just(sessionPlayer2.textMessage(message2))).subscribe();
-      }
-    } catch (JsonProcessingException e) {
-      log.error("Failed to process timeout messages: {}", e.getMessage(), e);
-    }
-    closeAllSessions();
+  public void openSeat() {
+    isSeatOpen.set(true);
   }
 
-  private void closeAllSessions() {
-    if (isPlayer1Connected() && sessionPlayer1 != null && sessionPlayer1.isOpen()) {
-      sessionPlayer1.close().subscribe();
-    }
-    if (isPlayer2Connected() && sessionPlayer2 != null && sessionPlayer2.isOpen()) {
-      sessionPlayer2.close().subscribe();
-    }
+  /**
+   * Atomically takes the open seat of this game, only one caller can succeed.
+   */
+  public boolean claimSeat() {
+    return isSeatOpen.compareAndSet(true, false);
+  }
+
+  /**
+   * Number of strikes made in the game so far, by both players. Strike events carry it so clients can detect a missed event.
+   */
+  public int getSequence() {
+    return strikeBoardPlayer1.getStrikes().size() + strikeBoardPlayer2.getStrikes().size();
+  }
+
+  public List<Strike> getStrikesPlayer1() {
+    return strikeBoardPlayer1.getStrikes();
+  }
+
+  public List<Strike> getStrikesPlayer2() {
+    return strikeBoardPlayer2.getStrikes();
   }
 
   public void setActiveShipsPlayer1(List<Ship> ships) {
     this.activeShipsPlayer1.clear();
     this.activeShipsPlayer1.addAll(ships);
+    this.shipBoardPlayer1.set(Bitboard.of(ships));
   }
 
   public void setActiveShipsPlayer2(List<Ship> ships) {
     this.activeShipsPlayer2.clear();
     this.activeShipsPlayer2.addAll(ships);
+    this.shipBoardPlayer2.set(Bitboard.of(ships));
   }
 
   public void setSessionPlayer1(WebSocketSession session) {
@@ -0,0 +1,75 @@
+package com.example.battleshipbackend.game.model;
+
+import com.example.battleshipbackend.game.enums.GameStateType;
+import com.example.battleshipbackend.game.enums.PlayerSlotType;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+/**
+ * One player's side of a game, resolved once per command. Own and adversary state are picked from the player slot
+ * when the view is created, so the code handling the command reads them directly instead of comparing sessions again
+ * for every access. Connection and delta flags are read at that moment, views are not kept beyond one command.
+ */
+@Getter
+public final class PlayerView {
+  private final GameSession gameSession;
+  private final PlayerSlotType slot;
+  private final WebSocketSession ownSession;
+  private final WebSocketSession adversarySession;
+  private final StrikeBoard ownStrikeBoard;
+  private final StrikeBoard adversaryStrikeBoard;
+  private final Bitboard adversaryShipBoard;
+  private final List<Ship> ownActiveShips;
+  private final List<Ship> ownSunkenShips;
+  private final List<Ship> adversaryActiveShips;
+  private final List<Ship> adversarySunkenShips;
+  private final boolean isOwnDeltaEvents;
+  private final boolean isAdversaryDeltaEvents;
+  private final boolean isAdversaryConnected;
+  private final GameStateType ownTurnState;
+  private final GameStateType adversaryTurnState;
+
+  private PlayerView(GameSession gameSession, PlayerSlotType slot) {
+    boolean isPlayer1 = slot == PlayerSlotType.PLAYER1;
+    this.gameSession = gameSession;
+    this.slot = slot;
+    this.ownSession = isPlayer1 ? gameSession.getSessionPlayer1() : gameSession.getSessionPlayer2();
+    this.adversarySession = isPlayer1 ? gameSession.getSessionPlayer2() : gameSession.getSessionPlayer1();
+    this.ownStrikeBoard = isPlayer1 ? gameSession.getStrikeBoardPlayer1() : gameSession.getStrikeBoardPlayer2();
+    this.adversaryStrikeBoard = isPlayer1 ? gameSession.getStrikeBoardPlayer2() : gameSession.getStrikeBoardPlayer1();
+    this.adversaryShipBoard = isPlayer1 ? gameSession.getShipBoardPlayer2() : gameSession.getShipBoardPlayer1();
+    this.ownActiveShips = isPlayer1 ? gameSession.getActiveShipsPlayer1() : gameSession.getActiveShipsPlayer2();
+    this.ownSunkenShips = isPlayer1 ? gameSession.getSunkenShipsPlayer1() : gameSession.getSunkenShipsPlayer2();
+    this.adversaryActiveShips = isPlayer1 ? gameSession.getActiveShipsPlayer2() : gameSession.getActiveShipsPlayer1();
+    this.adversarySunkenShips = isPlayer1 ? gameSession.getSunkenShipsPlayer2() : gameSession.getSunkenShipsPlayer1();
+    this.isOwnDeltaEvents = isPlayer1 ? gameSession.isDeltaEventsPlayer1() : gameSession.isDeltaEventsPlayer2();
+    this.isAdversaryDeltaEvents = isPlayer1 ? gameSession.isDeltaEventsPlayer2() : gameSession.isDeltaEventsPlayer1();
+    this.isAdversaryConnected = isPlayer1 ? gameSession.isPlayer2Connected() : gameSession.isPlayer1Connected();
+    this.ownTurnState = isPlayer1 ? GameStateType.TURN_PLAYER1 : GameStateType.TURN_PLAYER2;
+    this.adversaryTurnState = isPlayer1 ? GameStateType.TURN_PLAYER2 : GameStateType.TURN_PLAYER1;
+  }
+
+  public static PlayerView of(GameSession gameSession, PlayerSlotType slot) {
+    return new PlayerView(gameSession, slot);
+  }
+
+  /**
+   * The other side of the same game, also for the AI's side that has no session.
+   */
+  public PlayerView getAdversaryView() {
+    return of(gameSession, slot == PlayerSlotType.PLAYER1 ? PlayerSlotType.PLAYER2 : PlayerSlotType.PLAYER1);
+  }
+
+  public List<Strike> getOwnStrikes() {
+    return ownStrikeBoard.getStrikes();
+  }
+
+  public List<Strike> getAdversaryStrikes() {
+    return adversaryStrikeBoard.getStrikes();
+  }
+
+  public boolean isOwnTurn() {
+    return gameSession.getGameState() == ownTurnState;
+  }
+}
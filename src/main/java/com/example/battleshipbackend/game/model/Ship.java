@@ -1,13 +1,44 @@
 package com.example.battleshipbackend.game.model;
 
 import java.util.List;
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Data
-@AllArgsConstructor
 public class Ship {
 
   private String id; // needed or possible to remove?
-  private List<Coordinate> coordinates;
+  private final List<Coordinate> coordinates;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final Bitboard cells = new Bitboard();
+  @EqualsAndHashCode.Exclude
+  private int remainingHealth;
+
+  public Ship(String id, List<Coordinate> coordinates) {
+    this.id = id;
+    this.coordinates = coordinates;
+    this.remainingHealth = coordinates.size();
+    for (Coordinate coordinate : coordinates) {
+      if (Bitboard.isOnBoard(coordinate.getRow(), coordinate.getColumn())) {
+        cells.add(Bitboard.toCell(coordinate.getRow(), coordinate.getColumn()));
+      }
+    }
+  }
+
+  public boolean isOccupying(int cell) {
+    return cells.contains(cell);
+  }
+
+  /**
+   * Registers a hit on one of the ship's cells and returns true if it was the last one standing.
+   */
+  public boolean registerHit() {
+    return --remainingHealth == 0;
+  }
+
+  public boolean isSunk() {
+    return remainingHealth <= 0;
+  }
 }
@@ -0,0 +1,116 @@
+package com.example.battleshipbackend.game.model;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed table of every legal single-ship placement on the board, stored as two-long cell masks per ship length.
+ * Placements of one length are indexed from 0 to count(length) - 1.
+ */
+public final class ShipPlacements {
+
+  public static final int MIN_SHIP_LENGTH = 2;
+  public static final int MAX_SHIP_LENGTH = 5;
+  public static final int[] FLEET_SHIP_LENGTHS = {5, 4, 3, 3, 2};
+
+  private static final long[][] LOW = new long[MAX_SHIP_LENGTH + 1][];
+  private static final long[][] HIGH = new long[MAX_SHIP_LENGTH + 1][];
+  private static final int[][] START_CELL = new int[MAX_SHIP_LENGTH + 1][];
+  private static final boolean[][] HORIZONTAL = new boolean[MAX_SHIP_LENGTH + 1][];
+  // Placement index by start cell * 2 + (horizontal ? 0 : 1), -1 when the ship does not fit there.
+  private static final int[][] INDEX_BY_START = new int[MAX_SHIP_LENGTH + 1][Bitboard.CELL_COUNT * 2];
+  private static final int[][][] COVERING_CELL = new int[MAX_SHIP_LENGTH + 1][Bitboard.CELL_COUNT][];
+
+  static {
+    for (int length = MIN_SHIP_LENGTH; length <= MAX_SHIP_LENGTH; length++) {
+      int perOrientation = Bitboard.BOARD_SIZE * (Bitboard.BOARD_SIZE - length + 1);
+      LOW[length] = new long[perOrientation * 2];
+      HIGH[length] = new long[perOrientation * 2];
+      START_CELL[length] = new int[perOrientation * 2];
+      HORIZONTAL[length] = new boolean[perOrientation * 2];
+      Arrays.fill(INDEX_BY_START[length], -1);
+      int[] coveringCount = new int[Bitboard.CELL_COUNT];
+      int index = 0;
+      for (int orientation = 0; orientation < 2; orientation++) {
+        boolean isHorizontal = orientation == 0;
+        for (int row = 0; row < Bitboard.BOARD_SIZE; row++) {
+          for (int column = 0; column < Bitboard.BOARD_SIZE; column++) {
+            if ((isHorizontal ? column : row) + length > Bitboard.BOARD_SIZE) {
+              continue;
+            }
+            Bitboard mask = new Bitboard();
+            for (int k = 0; k < length; k++) {
+              int cell = isHorizontal ? Bitboard.toCell(row, column + k) : Bitboard.toCell(row + k, column);
+              mask.add(cell);
+              coveringCount[cell]++;
+            }
+            int startCell = Bitboard.toCell(row, column);
+            LOW[length][index] = mask.getLow();
+            HIGH[length][index] = mask.getHigh();
+            START_CELL[length][index] = startCell;
+            HORIZONTAL[length][index] = isHorizontal;
+            INDEX_BY_START[length][startCell * 2 + orientation] = index;
+            index++;
+          }
+        }
+      }
+      for (int cell = 0; cell < Bitboard.CELL_COUNT; cell++) {
+        COVERING_CELL[length][cell] = new int[coveringCount[cell]];
+        coveringCount[cell] = 0;
+      }
+      for (int placement = 0; placement < index; placement++) {
+        int step = HORIZONTAL[length][placement] ? 1 : Bitboard.BOARD_SIZE;
+        for (int k = 0; k < length; k++) {
+          int cell = START_CELL[length][placement] + k * step;
+          COVERING_CELL[length][cell][coveringCount[cell]++] = placement;
+        }
+      }
+    }
+  }
+
+  private ShipPlacements() {
+  }
+
+  public static int count(int length) {
+    return LOW[length].length;
+  }
+
+  public static long low(int length, int placement) {
+    return LOW[length][placement];
+  }
+
+  public static long high(int length, int placement) {
+    return HIGH[length][placement];
+  }
+
+  public static int startCell(int length, int placement) {
+    return START_CELL[length][placement];
+  }
+
+  public static boolean isHorizontal(int length, int placement) {
+    return HORIZONTAL[length][placement];
+  }
+
+  /**
+   * Indexes of the placements of the given length that cover the cell. The returned array is shared and must not be modified.
+   */
+  public static int[] placementsCovering(int length, int cell) {
+    return COVERING_CELL[length][cell];
+  }
+
+  /**
+   * Returns the index of the placement with exactly this mask, or -1 when the mask is not a legal placement of the length.
+   */
+  public static int indexOf(int length, long low, long high) {
+    if (length < MIN_SHIP_LENGTH || length > MAX_SHIP_LENGTH || (low == 0 && high == 0)) {
+      return -1;
+    }
+    int startCell = low != 0 ? Long.numberOfTrailingZeros(low) : 64 + Long.numberOfTrailingZeros(high);
+    for (int orientation = 0; orientation < 2; orientation++) {
+      int placement = INDEX_BY_START[length][startCell * 2 + orientation];
+      if (placement >= 0 && LOW[length][placement] == low && HIGH[length][placement] == high) {
+        return placement;
+      }
+    }
+    return -1;
+  }
+}
@@ -1,11 +1,63 @@
 package com.example.battleshipbackend.game.model;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-
-@AllArgsConstructor
-@Data
-public class Strike {
-    private Coordinate coordinate;
-    private boolean isHit;
+/**
+ * Immutable strike packed into a single byte: the cell index in the low seven bits and the hit flag in the high bit.
+ * There are only 200 possible strikes, all canonical instances from a static table.
+ */
+public final class Strike {
+    private static final int HIT_FLAG = 0x80;
+    private static final int CELL_MASK = 0x7F;
+    private static final Strike[] STRIKES = new Strike[HIT_FLAG * 2];
+
+    static {
+        for (int cell = 0; cell < Bitboard.CELL_COUNT; cell++) {
+            STRIKES[cell] = new Strike((byte) cell);
+            STRIKES[cell | HIT_FLAG] = new Strike((byte) (cell | HIT_FLAG));
+        }
+    }
+
+    private final byte packed;
+
+    private Strike(byte packed) {
+        this.packed = packed;
+    }
+
+    public static Strike of(int cell, boolean isHit) {
+        return STRIKES[isHit ? cell | HIT_FLAG : cell];
+    }
+
+    public static Strike fromByte(byte packed) {
+        return STRIKES[packed & 0xFF];
+    }
+
+    public byte toByte() {
+        return packed;
+    }
+
+    public int toCell() {
+        return packed & CELL_MASK;
+    }
+
+    public Coordinate getCoordinate() {
+        return Coordinate.ofCell(packed & CELL_MASK);
+    }
+
+    public boolean isHit() {
+        return (packed & HIT_FLAG) != 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Strike other && packed == other.packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return packed;
+    }
+
+    @Override
+    public String toString() {
+        return "Strike(coordinate=" + getCoordinate() + ", isHit=" + isHit() + ")";
+    }
 }
@@ -0,0 +1,71 @@
+package com.example.battleshipbackend.game.model;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Strikes made by one player, kept both as the ordered history sent to clients and as bitboards for rule checks.
+ * The history is stored as packed strike bytes and exposed as a read-only list of canonical Strike instances.
+ */
+public class StrikeBoard {
+
+  private final byte[] history = new byte[Bitboard.CELL_COUNT];
+  private int size;
+  private final List<Strike> strikesView = new StrikeList();
+  private final Bitboard struck = new Bitboard();
+  private final Bitboard hits = new Bitboard();
+
+  public void addStrike(int row, int column, boolean isHit) {
+    int cell = Bitboard.toCell(row, column);
+    history[size++] = Strike.of(cell, isHit).toByte();
+    struck.add(cell);
+    if (isHit) {
+      hits.add(cell);
+    }
+  }
+
+  public boolean isStruck(int row, int column) {
+    return struck.contains(row, column);
+  }
+
+  public List<Strike> getStrikes() {
+    return strikesView;
+  }
+
+  public Strike getLastStrike() {
+    return size == 0 ? null : Strike.fromByte(history[size - 1]);
+  }
+
+  public Bitboard getStruck() {
+    return struck;
+  }
+
+  public Bitboard getHits() {
+    return hits;
+  }
+
+  public int getHitCount() {
+    return hits.count();
+  }
+
+  public int getMissCount() {
+    return struck.count() - hits.count();
+  }
+
+  private class StrikeList extends AbstractList<Strike> implements RandomAccess {
+
+    @Override
+    public Strike get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+      }
+      return Strike.fromByte(history[index]);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
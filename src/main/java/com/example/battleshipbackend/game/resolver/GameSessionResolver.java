@@ -1,59 +1,32 @@
 package com.example.battleshipbackend.game.resolver;
 
+import com.example.battleshipbackend.game.enums.PlayerSlotType;
 import com.example.battleshipbackend.game.model.GameSession;
-import com.example.battleshipbackend.game.model.Ship;
-import com.example.battleshipbackend.game.model.Strike;
-import java.util.List;
+import com.example.battleshipbackend.game.model.PlayerView;
+import com.example.battleshipbackend.webSocket.ConnectionContext;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.socket.WebSocketSession;
 
 @Component
 public class GameSessionResolver {
-  public WebSocketSession getAdversarySession(WebSocketSession webSocketSession, GameSession gameSession) {
-    return webSocketSession.equals(gameSession.getSessionPlayer1())
-        ? gameSession.getSessionPlayer2()
-        : gameSession.getSessionPlayer1();
-  }
-
-  public List<Strike> getCurrentSessionStrikes(WebSocketSession webSocketSession, GameSession gameSession) {
-    return webSocketSession.equals(gameSession.getSessionPlayer1())
-        ? gameSession.getStrikesPlayer1()
-        : gameSession.getStrikesPlayer2();
-  }
-
-  public List<Strike> getAdversaryStrikes(WebSocketSession webSocketSession, GameSession gameSession) {
-    return webSocketSession.equals(gameSession.getSessionPlayer1())
-        ? gameSession.getStrikesPlayer2()
-        : gameSession.getStrikesPlayer1();
-  }
-
-  public List<Ship> getCurrentSessionActiveShips(WebSocketSession webSocketSession, GameSession gameSession) {
-    return webSocketSession.equals(gameSession.getSessionPlayer1())
-        ? gameSession.getActiveShipsPlayer1()
-        : gameSession.getActiveShipsPlayer2();
-  }
-
-  public List<Ship> getAdversaryActiveShips(WebSocketSession webSocketSession, GameSession gameSession) {
-    return webSocketSession.equals(gameSession.getSessionPlayer1())
-        ? gameSession.getActiveShipsPlayer2()
-        : gameSession.getActiveShipsPlayer1();
-  }
-
-  public List<Ship> getCurrentSessionSunkenShips(WebSocketSession webSocketSession, GameSession gameSession) {
-    return webSocketSession.equals(gameSession.getSessionPlayer1())
-        ? gameSession.getSunkenShipsPlayer1()
-        : gameSession.getSunkenShipsPlayer2();
-  }
-
-  public List<Ship> getAdversarySunkenShips(WebSocketSession webSocketSession, GameSession gameSession) {
-    return webSocketSession.equals(gameSession.getSessionPlayer1())
-        ? gameSession.getSunkenShipsPlayer2()
-        : gameSession.getSunkenShipsPlayer1();
-  }
-
-  public boolean isAdversaryConnected(WebSocketSession webSocketSession, GameSession gameSession) {
-    return webSocketSession.equals(gameSession.getSessionPlayer1())
-        ? gameSession.isPlayer2Connected()
-        : gameSession.isPlayer1Connected();
+  /**
+   * The session's side of the game, null when the session plays no part in it. The slot comes from the connection's
+   * context when the game is its current one, otherwise the session is compared with both players once.
+   */
+  public PlayerView resolve(WebSocketSession webSocketSession, GameSession gameSession) {
+    if (gameSession == null || webSocketSession == null) {
+      return null;
+    }
+    ConnectionContext context = ConnectionContext.of(webSocketSession);
+    if (context != null && context.getGameSession() == gameSession && context.getPlayerSlot() != null) {
+      return PlayerView.of(gameSession, context.getPlayerSlot());
+    }
+    if (webSocketSession.equals(gameSession.getSessionPlayer1())) {
+      return PlayerView.of(gameSession, PlayerSlotType.PLAYER1);
+    }
+    if (webSocketSession.equals(gameSession.getSessionPlayer2())) {
+      return PlayerView.of(gameSession, PlayerSlotType.PLAYER2);
+    }
+    return null;
   }
 }
@@ -1,13 +1,14 @@
 package com.example.battleshipbackend.game.service;
 
+import com.example.battleshipbackend.game.ai.TargetBoard;
 import com.example.battleshipbackend.game.model.Coordinate;
 import com.example.battleshipbackend.game.model.Ship;
-import com.example.battleshipbackend.game.model.Strike;
 import java.util.List;
+import reactor.core.publisher.Mono;
 
 public interface AIOpponentService {
 
-  Coordinate getNextStrike(List<Strike> strikes, List<Ship> sunkenShips, List<Ship> activeShips);
+  Mono<Coordinate> getNextStrike(TargetBoard targetBoard);
 
   List<Ship> getRandomShips();
 }
@@ -1,12 +1,19 @@
 package com.example.battleshipbackend.game.service;
 
+import com.example.battleshipbackend.constants.TextMessages;
 import com.example.battleshipbackend.game.dto.response.GameEvent;
+import com.example.battleshipbackend.game.enums.GameEventType;
+import com.example.battleshipbackend.webSocket.ConnectionContext;
 import com.example.battleshipbackend.webSocket.WebSocketSinkRegistry;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.battleshipbackend.webSocket.codec.GameMessageCodec;
+import com.example.battleshipbackend.webSocket.codec.GameMessageCodecRegistry;
+import com.example.battleshipbackend.webSocket.codec.StaticFrameCache;
+import java.io.IOException;
+import java.util.Optional;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
 import reactor.core.publisher.Mono;
 
@@ -14,12 +21,15 @@ import reactor.core.publisher.Mono;
 @Service
 public class GameMessageServiceImpl implements GameMessageService {
 
-  private final ObjectMapper objectMapper;
+  private final GameMessageCodecRegistry gameMessageCodecRegistry;
+  private final StaticFrameCache staticFrameCache;
   private final WebSocketSinkRegistry webSocketSinkRegistry;
 
   @Autowired
-  public GameMessageServiceImpl(ObjectMapper objectMapper, WebSocketSinkRegistry webSocketSinkRegistry) {
-    this.objectMapper = objectMapper;
+  public GameMessageServiceImpl(GameMessageCodecRegistry gameMessageCodecRegistry, StaticFrameCache staticFrameCache,
+    WebSocketSinkRegistry webSocketSinkRegistry) {
+    this.gameMessageCodecRegistry = gameMessageCodecRegistry;
+    this.staticFrameCache = staticFrameCache;
     this.webSocketSinkRegistry = webSocketSinkRegistry;
   }
 
@@ -28,14 +38,14 @@ public class GameMessageServiceImpl implements GameMessageService {
     GameEvent event1, WebSocketSession session1, GameEvent event2, WebSocketSession session2, boolean lastMessage) {
     Mono<Void> sendMono;
     try {
-      webSocketSinkRegistry.send(session1.getId(), session1.textMessage(objectMapper.writeValueAsString(event1)));
-      webSocketSinkRegistry.send(session2.getId(), session2.textMessage(objectMapper.writeValueAsString(event2)));
+      webSocketSinkRegistry.send(session1, toMessage(session1, event1), isStateEvent(event1));
+      webSocketSinkRegistry.send(session2, toMessage(session2, event2), isStateEvent(event2));
       sendMono = Mono.empty();
-    } catch (JsonProcessingException e) {
-      log.error("GameEventsToMessages: error processing JSON for WebSocket message: {}", e.getMessage());
+    } catch (IOException e) {
+      log.error("GameEventsToMessages: error encoding for WebSocket message: {}", e.getMessage());
       sendMono = Mono.when(
-        sendStringMessage(session1, "Error: something went wrong server-side"),
-        sendStringMessage(session2, "Error: something went wrong server-side")
+        sendStringMessage(session1, TextMessages.SERVER_ERROR),
+        sendStringMessage(session2, TextMessages.SERVER_ERROR)
       );
     }
     if (lastMessage) {
@@ -51,11 +61,11 @@ public class GameMessageServiceImpl implements GameMessageService {
   public Mono<Void> sendGameEventMessage(GameEvent event, WebSocketSession session, boolean lastMessage) {
     Mono<Void> sendMono;
     try {
-      webSocketSinkRegistry.send(session.getId(), session.textMessage(objectMapper.writeValueAsString(event)));
+      webSocketSinkRegistry.send(session, toMessage(session, event), isStateEvent(event));
       sendMono = Mono.empty();
-    } catch (JsonProcessingException e) {
-      log.error("GameEventToMessage: error processing JSON for WebSocket message: {}", e.getMessage());
-      sendMono = sendStringMessage(session, "Error: something went wrong server-side");
+    } catch (IOException e) {
+      log.error("GameEventToMessage: error encoding for WebSocket message: {}", e.getMessage());
+      sendMono = sendStringMessage(session, TextMessages.SERVER_ERROR);
     }
     if (lastMessage) {
       sendMono = sendMono.then(closeSessionAndSink(session));
@@ -65,10 +75,27 @@ public class GameMessageServiceImpl implements GameMessageService {
 
   @Override
   public Mono<Void> sendStringMessage(WebSocketSession session, String string) {
-    webSocketSinkRegistry.send(session.getId(), session.textMessage(string));
+    WebSocketMessage message = staticFrameCache.getTextFrame(session, string)
+      .orElseGet(() -> session.textMessage(string));
+    webSocketSinkRegistry.send(session, message, false);
     return Mono.empty();
   }
 
+  /* Turn events carry game state that a snapshot of the game supersedes, all other events have to be delivered */
+  private static boolean isStateEvent(GameEvent event) {
+    return event.getEventType() == GameEventType.TURN_OWN || event.getEventType() == GameEventType.TURN_OPPONENT;
+  }
+
+  private WebSocketMessage toMessage(WebSocketSession session, GameEvent event) throws IOException {
+    ConnectionContext context = ConnectionContext.of(session);
+    GameMessageCodec codec = context != null ? context.getCodec() : gameMessageCodecRegistry.forSession(session);
+    Optional<WebSocketMessage> cachedFrame = staticFrameCache.getEventFrame(session, codec, event);
+    if (cachedFrame.isPresent()) {
+      return cachedFrame.get();
+    }
+    return codec.encode(session, event);
+  }
+
   private Mono<Void> closeSessionAndSink(WebSocketSession session) {
     return session.close()
       .doOnSuccess(unused -> log.info("Closed session <{}>", session.getId()))
@@ -76,6 +103,6 @@ public class GameMessageServiceImpl implements GameMessageService {
         log.warn("Error closing session <{}>: {}", session.getId(), error.getMessage());
         return Mono.empty();
       })
-      .then(Mono.fromRunnable(() -> webSocketSinkRegistry.close(session.getId())));
+      .then(Mono.fromRunnable(() -> webSocketSinkRegistry.close(session)));
   }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.example.battleshipbackend.game.service;
 
 import com.example.battleshipbackend.game.dto.request.GameCommand;
 import com.example.battleshipbackend.game.model.GameSession;
+import com.example.battleshipbackend.game.model.PlayerView;
 import com.example.battleshipbackend.game.model.Ship;
 import java.util.List;
 import org.springframework.web.reactive.socket.WebSocketSession;
@@ -14,7 +15,12 @@ public interface GameRequestValidationService {
 
   Mono<Void> validateReconnectRequest (WebSocketSession webSocketSession, GameSession gameSession);
 
-  Mono<Void> validateLeaveRequest(WebSocketSession webSocketSession, GameSession gameSession, String gameId);
+  Mono<Void> validateLeaveRequest(WebSocketSession webSocketSession, GameSession gameSession, PlayerView playerView,
+      String gameId);
 
-  Mono<Void> validateStrikeRequest(WebSocketSession webSocketSession, GameSession gameSession, GameCommand gameCommand);
+  Mono<Void> validateSyncRequest(WebSocketSession webSocketSession, GameSession gameSession, PlayerView playerView,
+      String gameId);
+
+  Mono<Void> validateStrikeRequest(WebSocketSession webSocketSession, GameSession gameSession, PlayerView playerView,
+      GameCommand gameCommand);
 }
@@ -1,12 +1,11 @@
 package com.example.battleshipbackend.game.service;
 
+import com.example.battleshipbackend.constants.TextMessages;
+import com.example.battleshipbackend.game.builder.GameEventBuilder;
 import com.example.battleshipbackend.game.dto.request.GameCommand;
-import com.example.battleshipbackend.game.dto.response.GameEvent;
-import com.example.battleshipbackend.game.enums.GameEventType;
-import com.example.battleshipbackend.game.enums.GameStateType;
 import com.example.battleshipbackend.game.model.GameSession;
+import com.example.battleshipbackend.game.model.PlayerView;
 import com.example.battleshipbackend.game.model.Ship;
-import com.example.battleshipbackend.game.resolver.GameSessionResolver;
 import java.util.List;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,21 +19,21 @@ public class GameRequestValidationServiceImpl implements GameRequestValidationSe
 
   private final GameMessageService gameMessageService;
   private final GameRuleService gameRuleService;
-  private final GameSessionResolver gameSessionResolver;
+  private final GameEventBuilder gameEventBuilder;
 
   @Autowired
   public GameRequestValidationServiceImpl(GameMessageService gameMessageService, GameRuleService gameRuleService,
-      GameSessionResolver gameSessionResolver) {
+      GameEventBuilder gameEventBuilder) {
     this.gameMessageService = gameMessageService;
     this.gameRuleService = gameRuleService;
-    this.gameSessionResolver = gameSessionResolver;
+    this.gameEventBuilder = gameEventBuilder;
   }
 
   @Override
   public Mono<Void> validateUUID(WebSocketSession webSocketSession, String uuid) {
     if (gameRuleService.isNotUUID(uuid)) {
       log.warn("Invalid UUID, session <{}>, UUID <{}>", webSocketSession.getId(), uuid);
-      return gameMessageService.sendStringMessage(webSocketSession, "Game id is not valid.");
+      return gameMessageService.sendStringMessage(webSocketSession, TextMessages.INVALID_GAME_ID);
     }
     return null;
   }
@@ -43,11 +42,11 @@ public class GameRequestValidationServiceImpl implements GameRequestValidationSe
   public Mono<Void> validateJoinRequest(WebSocketSession webSocketSession, List<Ship> ships, boolean isInCurrentGame) {
     if (isInCurrentGame) {
       log.warn("Tried to join a game when already in a game, session <{}>", webSocketSession.getId());
-      return gameMessageService.sendStringMessage(webSocketSession,"Can't join a game when already in one");
+      return gameMessageService.sendStringMessage(webSocketSession,TextMessages.ALREADY_IN_GAME);
     }
     if (!gameRuleService.isShipsValid(ships)) {
       log.warn("Tried to join a game with invalid ships, session <{}>, ships <{}>", webSocketSession.getId(), ships);
-      return gameMessageService.sendStringMessage(webSocketSession, "Can't join a game without correct setup of ships.");
+      return gameMessageService.sendStringMessage(webSocketSession, TextMessages.INVALID_SHIPS);
     }
     return null;
   }
@@ -55,31 +54,47 @@ public class GameRequestValidationServiceImpl implements GameRequestValidationSe
   @Override
   public Mono<Void> validateReconnectRequest(WebSocketSession webSocketSession, GameSession gameSession) {
     if (gameSession == null) {
-      return gameMessageService.sendGameEventMessage(GameEvent.builder().eventType(GameEventType.NO_GAME).build(), webSocketSession, true);
+      return gameMessageService.sendGameEventMessage(gameEventBuilder.getNoGameEvent(), webSocketSession, true);
     }
     if (gameSession.isPlayer1Connected() && gameSession.isPlayer2Connected()) {
       log.warn("Tried to reconnect to a game with active sessions, session <{}>, game: <{}>", webSocketSession.getId(),
           gameSession.toString());
-      return gameMessageService.sendStringMessage(webSocketSession, "Both players for this game are already active");
+      return gameMessageService.sendStringMessage(webSocketSession, TextMessages.PLAYERS_ALREADY_ACTIVE);
     }
     return null;
   }
 
   @Override
-  public Mono<Void> validateLeaveRequest(WebSocketSession webSocketSession, GameSession gameSession, String gameId) {
+  public Mono<Void> validateLeaveRequest(WebSocketSession webSocketSession, GameSession gameSession, PlayerView playerView,
+      String gameId) {
     Mono<Void> result = validateGameSession(webSocketSession, gameSession, gameId);
     if (result != null) {
       return result;
     }
-    if (!gameSession.getSessionPlayer1().equals(webSocketSession) && !gameSession.getSessionPlayer2().equals(webSocketSession)) {
+    if (playerView == null) {
       log.warn("LeaveRequest: wrong session <{}> for game: <{}>", webSocketSession.getId(), gameSession.toString());
-      return gameMessageService.sendStringMessage(webSocketSession, "Wrong session for this game");
+      return gameMessageService.sendStringMessage(webSocketSession, TextMessages.WRONG_SESSION);
     }
     return null;
   }
 
   @Override
-  public Mono<Void> validateStrikeRequest(WebSocketSession webSocketSession, GameSession gameSession, GameCommand gameCommand) {
+  public Mono<Void> validateSyncRequest(WebSocketSession webSocketSession, GameSession gameSession, PlayerView playerView,
+      String gameId) {
+    Mono<Void> result = validateGameSession(webSocketSession, gameSession, gameId);
+    if (result != null) {
+      return result;
+    }
+    if (playerView == null) {
+      log.warn("SyncRequest: wrong session <{}> for game: <{}>", webSocketSession.getId(), gameSession.toString());
+      return gameMessageService.sendStringMessage(webSocketSession, TextMessages.WRONG_SESSION);
+    }
+    return null;
+  }
+
+  @Override
+  public Mono<Void> validateStrikeRequest(WebSocketSession webSocketSession, GameSession gameSession, PlayerView playerView,
+      GameCommand gameCommand) {
     Mono<Void> result = validateGameSession(webSocketSession, gameSession, gameCommand.getGameId());
     if (result != null) {
       return result;
@@ -87,28 +102,25 @@ public class GameRequestValidationServiceImpl implements GameRequestValidationSe
     if (gameCommand.getStrikeRow() == null || gameCommand.getStrikeColumn() == null) {
       log.warn("Tried to strike without row and/or column values, session <{}>, game id: <{}>", webSocketSession.getId(),
           gameSession.getId());
-      return gameMessageService.sendStringMessage(webSocketSession, "Row and/or column values are missing");
+      return gameMessageService.sendStringMessage(webSocketSession, TextMessages.MISSING_STRIKE_POSITION);
     }
     if (gameCommand.getStrikeRow() > 9 || gameCommand.getStrikeRow() < 0 || gameCommand.getStrikeColumn() > 9
         || gameCommand.getStrikeColumn() < 0) {
       log.warn("Tried to strike with wrong values on row and/or column, session <{}>, game id: <{}>", webSocketSession.getId(),
           gameSession.getId());
-      return gameMessageService.sendStringMessage(webSocketSession, "Row and/or column values are not valid");
+      return gameMessageService.sendStringMessage(webSocketSession, TextMessages.INVALID_STRIKE_POSITION);
     }
-    if (!gameSession.getSessionPlayer1().equals(webSocketSession) && !gameSession.getSessionPlayer2().equals(webSocketSession)) {
+    if (playerView == null) {
       log.warn("StrikeRequest: wrong session <{}> for game: <{}>", webSocketSession.getId(), gameSession.toString());
-      return gameMessageService.sendStringMessage(webSocketSession, "Wrong session for this game");
+      return gameMessageService.sendStringMessage(webSocketSession, TextMessages.WRONG_SESSION);
     }
-    if ((gameSession.isAgainstAI() && gameSession.getGameState() != GameStateType.TURN_PLAYER1) ||
-        (!gameSession.isAgainstAI() && (
-            (gameSession.getGameState() == GameStateType.TURN_PLAYER1 && gameSession.getSessionPlayer2().equals(webSocketSession)) ||
-                (gameSession.getGameState() == GameStateType.TURN_PLAYER2 && gameSession.getSessionPlayer1().equals(webSocketSession))))) {
+    if (!playerView.isOwnTurn()) {
       log.warn("Tried to strike on opponents turn, session <{}>, game id: <{}>", webSocketSession.getId(), gameSession.getId());
-      return gameMessageService.sendStringMessage(webSocketSession, "Not your turn to play");
+      return gameMessageService.sendStringMessage(webSocketSession, TextMessages.NOT_YOUR_TURN);
     }
     if (gameRuleService.isStrikePositionAlreadyUsed(gameCommand.getStrikeRow(), gameCommand.getStrikeColumn(),
-        gameSessionResolver.getCurrentSessionStrikes(webSocketSession, gameSession))) {
-      return gameMessageService.sendStringMessage(webSocketSession, "Can't hit same position twice");
+        playerView.getOwnStrikeBoard().getStruck())) {
+      return gameMessageService.sendStringMessage(webSocketSession, TextMessages.STRIKE_POSITION_USED);
     }
     return null;
   }
@@ -116,7 +128,7 @@ public class GameRequestValidationServiceImpl implements GameRequestValidationSe
   private Mono<Void> validateGameSession(WebSocketSession webSocketSession, GameSession gameSession, String gameId) {
     if (gameSession == null) {
       log.warn("Didn't find game with game id: <{}> by session <{}>", gameId, webSocketSession.getId());
-      return gameMessageService.sendStringMessage(webSocketSession, "Game with that id does not exist");
+      return gameMessageService.sendStringMessage(webSocketSession, TextMessages.NO_SUCH_GAME);
     }
     return null;
   }
@@ -1,13 +1,11 @@
 package com.example.battleshipbackend.game.service;
 
-import com.example.battleshipbackend.game.model.Coordinate;
+import com.example.battleshipbackend.game.model.Bitboard;
 import com.example.battleshipbackend.game.model.Ship;
-import com.example.battleshipbackend.game.model.Strike;
+import com.example.battleshipbackend.game.model.ShipPlacements;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,6 +13,7 @@ public class GameRuleServiceImpl implements GameRuleService {
 
   private static final Pattern UUID_REGEX = Pattern.compile(
       "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+  private static final int FLEET_LENGTH_COUNTS = countLengths(ShipPlacements.FLEET_SHIP_LENGTHS);
 
   @Override
   public boolean isNotUUID(String input) {
@@ -22,17 +21,19 @@ public class GameRuleServiceImpl implements GameRuleService {
   }
 
   @Override
-  public boolean isStrikeMatchingShipCoordinate(int strikeRow, int strikeColumn, List<Ship> activeShips) {
-    return toListOfAllCoordinates(activeShips).stream()
-        .anyMatch(coordinate -> coordinate.getRow() == strikeRow && coordinate.getColumn() == strikeColumn);
+  public boolean isStrikeMatchingShipCoordinate(int strikeRow, int strikeColumn, Bitboard shipBoard) {
+    return shipBoard.contains(strikeRow, strikeColumn);
   }
 
   @Override
-  public Optional<Ship> getShipIfSunken(List<Strike> strikes, List<Ship> ships) {
-    Set<Coordinate> strikeCoordinates = getCoordinatesFromStrikes(strikes);
-    return ships.stream()
-        .filter(ship -> strikeCoordinates.containsAll(ship.getCoordinates()))
-        .findFirst();
+  public Optional<Ship> registerHitAndGetSunkenShip(int strikeRow, int strikeColumn, List<Ship> activeShips) {
+    int cell = Bitboard.toCell(strikeRow, strikeColumn);
+    for (Ship ship : activeShips) {
+      if (ship.isOccupying(cell)) {
+        return ship.registerHit() ? Optional.of(ship) : Optional.empty();
+      }
+    }
+    return Optional.empty();
   }
 
   @Override
@@ -41,45 +42,43 @@ public class GameRuleServiceImpl implements GameRuleService {
   }
 
   @Override
-  public boolean isStrikePositionAlreadyUsed(int row, int column, List<Strike> strikes) {
-    return strikes.stream().anyMatch(strike -> strike.getCoordinate().getRow() == row && strike.getCoordinate().getColumn() == column);
+  public boolean isStrikePositionAlreadyUsed(int row, int column, Bitboard struck) {
+    return struck.contains(row, column);
   }
 
+  /*
+  Every ship must match one of the precomputed placements for its length, the fleet must not overlap,
+  and the lengths must be exactly the fleet's. Runs on the ships' cell masks without allocating.
+   */
   @Override
   public boolean isShipsValid(List<Ship> ships) {
-    return isShipsWithinBounds(ships)
-        && isNotOverlapping(ships)
-        && isNumberOfShipsValid(ships)
-        && isLengthOfShipsValid(ships);
+    if (ships.size() != ShipPlacements.FLEET_SHIP_LENGTHS.length) {
+      return false;
+    }
+    long occupiedLow = 0L;
+    long occupiedHigh = 0L;
+    int lengthCounts = 0;
+    for (int i = 0; i < ships.size(); i++) {
+      Ship ship = ships.get(i);
+      int length = ship.getCoordinates().size();
+      long low = ship.getCells().getLow();
+      long high = ship.getCells().getHigh();
+      if (ShipPlacements.indexOf(length, low, high) < 0 || (occupiedLow & low) != 0 || (occupiedHigh & high) != 0) {
+        return false;
+      }
+      occupiedLow |= low;
+      occupiedHigh |= high;
+      lengthCounts += 1 << (length * 4);
+    }
+    return lengthCounts == FLEET_LENGTH_COUNTS;
   }
 
-  private boolean isNumberOfShipsValid(List<Ship> ships) {
-    return ships.size() == 5;
-  }
-
-  private boolean isLengthOfShipsValid(List<Ship> ships) {
-    return ships.stream().filter(e -> e.getCoordinates().size() == 2).count() == 1
-        && ships.stream().filter(e -> e.getCoordinates().size() == 3).count() == 2
-        && ships.stream().filter(e -> e.getCoordinates().size() == 4).count() == 1
-        && ships.stream().filter(e -> e.getCoordinates().size() == 5).count() == 1;
-  }
-
-  private boolean isShipsWithinBounds(List<Ship> ships) {
-    List<Coordinate> coordinates = toListOfAllCoordinates(ships);
-    return coordinates.size() == coordinates.stream()
-        .filter(e -> e.getRow() >= 0 && e.getRow() <= 9 && e.getColumn() >= 0 && e.getColumn() <= 9).toArray().length;
-  }
-
-  private boolean isNotOverlapping(List<Ship> ships) {
-    List<Coordinate> coordinates = toListOfAllCoordinates(ships);
-    return coordinates.size() == coordinates.stream().distinct().count();
-  }
-
-  private List<Coordinate> toListOfAllCoordinates(List<Ship> ships) {
-    return ships.stream().flatMap(ship -> ship.getCoordinates().stream()).toList();
-  }
-
-  private Set<Coordinate> getCoordinatesFromStrikes(List<Strike> strikes) {
-    return strikes.stream().map(Strike::getCoordinate).collect(Collectors.toSet());
+  // Number of ships per length packed into four bits per length.
+  private static int countLengths(int[] lengths) {
+    int lengthCounts = 0;
+    for (int length : lengths) {
+      lengthCounts += 1 << (length * 4);
+    }
+    return lengthCounts;
   }
 }
@@ -2,8 +2,10 @@ package com.example.battleshipbackend.game.service;
 
 import com.example.battleshipbackend.game.dto.ActiveGamesDTO;
 import com.example.battleshipbackend.game.dto.request.GameCommand;
+import com.example.battleshipbackend.game.dto.response.GameEvent;
 import com.example.battleshipbackend.game.model.Ship;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.web.reactive.socket.WebSocketSession;
 import reactor.core.publisher.Mono;
 
@@ -20,7 +22,15 @@ public interface GameSessionService {
 
   Mono<Void> handleLeaveRequest(WebSocketSession session, GameCommand command);
 
+  Mono<Void> handleSyncRequest(WebSocketSession session, GameCommand command);
+
   Mono<Void> handleClosedSession(WebSocketSession session);
 
+  /**
+   * Full state of the session's current game as seen by that player, empty when the session is not in a game.
+   * Outside the game's mailbox it is also empty, and the snapshot is sent from the mailbox instead.
+   */
+  Optional<GameEvent> getSnapshotEvent(WebSocketSession session);
+
   Mono<ActiveGamesDTO> getActiveGamesCount();
 }
\ No newline at end of file
@@ -1,36 +1,45 @@
 package com.example.battleshipbackend.game.service;
 
+import com.example.battleshipbackend.game.ai.TargetBoard;
 import com.example.battleshipbackend.game.builder.GameEventBuilder;
 import com.example.battleshipbackend.game.dto.ActiveGamesDTO;
+import com.example.battleshipbackend.game.model.Bitboard;
 import com.example.battleshipbackend.game.model.Coordinate;
 import com.example.battleshipbackend.game.dto.request.GameCommand;
 import com.example.battleshipbackend.game.dto.response.GameEvent;
-import com.example.battleshipbackend.game.enums.GameEventType;
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
+import com.example.battleshipbackend.game.matchmaking.MatchmakingQueue;
 import com.example.battleshipbackend.game.model.GameSession;
+import com.example.battleshipbackend.game.model.PlayerView;
 import com.example.battleshipbackend.game.enums.GameStateType;
+import com.example.battleshipbackend.game.enums.PlayerSlotType;
 import com.example.battleshipbackend.game.model.Ship;
-import com.example.battleshipbackend.game.model.Strike;
+import com.example.battleshipbackend.game.model.StrikeBoard;
 import com.example.battleshipbackend.game.resolver.GameSessionResolver;
 import com.example.battleshipbackend.statistics.model.GameStatistics;
 import com.example.battleshipbackend.statistics.service.GameStatisticsService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.battleshipbackend.webSocket.ConnectionContext;
+import io.netty.util.Timeout;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.socket.WebSocketSession;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+@Log4j2
 @Service
 public class GameSessionServiceImpl implements GameSessionService {
 
-  private final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(3);
-  private final ObjectMapper objectMapper;
+  private final Scheduler mailboxScheduler = Schedulers.parallel();
   private final GameRequestValidationService gameRequestValidationService;
   private final GameRuleService gameRuleService;
   private final GameMessageService gameMessageService;
@@ -38,18 +47,20 @@ public class GameSessionServiceImpl implements GameSessionService {
   private final GameEventBuilder gameEventBuilder;
   private final GameSessionResolver gameSessionResolver;
   private final AIOpponentService aiOpponentService;
+  private final MatchmakingQueue matchmakingQueue;
+  private final GameTimerService gameTimerService;
 
   @Autowired
   public GameSessionServiceImpl(
-    ObjectMapper objectMapper,
     GameRequestValidationService gameRequestValidationService,
     GameRuleService gameRuleService,
     GameMessageService gameMessageService,
     GameStatisticsService gameStatisticsService,
     GameEventBuilder gameEventBuilder,
     GameSessionResolver gameSessionResolver,
-    AIOpponentService aiOpponentService) {
-    this.objectMapper = objectMapper;
+    AIOpponentService aiOpponentService,
+    MatchmakingQueue matchmakingQueue,
+    GameTimerService gameTimerService) {
     this.gameRuleService = gameRuleService;
     this.gameMessageService = gameMessageService;
     this.gameStatisticsService = gameStatisticsService;
@@ -57,12 +68,15 @@ public class GameSessionServiceImpl implements GameSessionService {
     this.gameRequestValidationService = gameRequestValidationService;
     this.gameSessionResolver = gameSessionResolver;
     this.aiOpponentService = aiOpponentService;
+    this.matchmakingQueue = matchmakingQueue;
+    this.gameTimerService = gameTimerService;
   }
 
   private final static int AI_RESPONSE_TIME_IN_SECONDS = 2;
   private final static int RECONNECT_DELAY_TIME_IN_SECONDS = 1;
+  private final static int AI_DISCONNECT_GRACE_TIME_IN_SECONDS = 10;
+  private final static int TURN_TIMEOUT_IN_SECONDS = 120;
   private final Map<String, GameSession> gameSessions = new ConcurrentHashMap<>();
-  private final Map<String, String> currentGameIdForWebSocketSession = new ConcurrentHashMap<>();
 
   //TODO: Create unit and integration tests.
   //TODO: Try to remove id-variable in Ship and ShipDTO, start in, start in frontend.
@@ -70,64 +84,81 @@ public class GameSessionServiceImpl implements GameSessionService {
   @Override
   public Mono<Void> handleJoinRequest(WebSocketSession webSocketSession, GameCommand command, List<Ship> ships) {
     Mono<Void> validationResult = gameRequestValidationService.validateJoinRequest(
-      webSocketSession, ships, currentGameIdForWebSocketSession.get(webSocketSession.getId()) != null);
+      webSocketSession, ships, isInGame(webSocketSession));
     if (validationResult != null) {
       return validationResult;
     }
-    GameSession gameSession = gameSessions.values().stream()
-      .filter(e -> e.getSessionPlayer2() == null && !e.isGameStarted() && !e.isAgainstFriend())
-      .findFirst().orElseGet(() -> new GameSession(executorService, objectMapper));
-    if (gameSession.getSessionPlayer1() == null) {
-      gameSession.setId(UUID.randomUUID().toString());
-      return setPlayer1(gameSession, webSocketSession, ships).then(createNewGameSession(gameSession))
-        .then(gameMessageService.sendGameEventMessage(
-          gameEventBuilder.getWaitingOpponentEvent(gameSession.getId()),
-          webSocketSession,
-          false));
-    } else {
-      return setPlayer2(gameSession, webSocketSession, ships).then(startGame(webSocketSession, gameSession));
+    GameSession waitingGame = matchmakingQueue.claimWaitingGame();
+    if (waitingGame != null) {
+      return waitingGame.getMailbox().submit(() ->
+        setPlayer2(waitingGame, webSocketSession, ships, isDeltaEvents(command)).then(startGame(webSocketSession, waitingGame)));
     }
+    GameSession gameSession = new GameSession(mailboxScheduler);
+    gameSession.setId(UUID.randomUUID().toString());
+    return setPlayer1(gameSession, webSocketSession, ships, isDeltaEvents(command)).then(createNewGameSession(gameSession))
+      .then(gameMessageService.sendGameEventMessage(
+        gameEventBuilder.getWaitingOpponentEvent(gameSession.getId()),
+        webSocketSession,
+        false))
+      .then(gameSession.getMailbox().submit(() -> offerWaitingGame(gameSession)));
+  }
+
+  /*
+  Only offered to other players once it is fully set up and the waiting event is sent, in the mailbox so a game that
+  was already removed is not reopened.
+   */
+  private Mono<Void> offerWaitingGame(GameSession gameSession) {
+    if (gameSessions.get(gameSession.getId()) == gameSession) {
+      matchmakingQueue.enqueue(gameSession);
+    }
+    return Mono.empty();
   }
 
   @Override
   public Mono<Void> handleJoinFriendRequest(WebSocketSession webSocketSession, GameCommand command, List<Ship> ships) {
     Mono<Void> validationResult = gameRequestValidationService.validateJoinRequest(
-      webSocketSession, ships, currentGameIdForWebSocketSession.get(webSocketSession.getId()) != null);
+      webSocketSession, ships, isInGame(webSocketSession));
     if (validationResult != null) {
       return validationResult;
     }
     GameSession gameSession;
     if (command.getGameId() == null || command.getGameId().isEmpty()) {
-      gameSession = new GameSession(executorService, objectMapper);
+      gameSession = new GameSession(mailboxScheduler);
       gameSession.setId(UUID.randomUUID().toString());
       gameSession.setAgainstFriend(true);
-      return setPlayer1(gameSession, webSocketSession, ships).then(createNewGameSession(gameSession))
+      return setPlayer1(gameSession, webSocketSession, ships, isDeltaEvents(command)).then(createNewGameSession(gameSession))
         .then(gameMessageService.sendGameEventMessage(
           gameEventBuilder.getWaitingFriendEvent(gameSession.getId()),
           webSocketSession,
           false));
     } else {
-      gameSession = gameSessions.get(command.getGameId());
-      if (gameSession == null) {
-        return gameMessageService.sendGameEventMessage(GameEvent.builder().eventType(GameEventType.WRONG_GAME_ID).build(),
+      GameSession friendGame = gameSessions.get(command.getGameId());
+      if (friendGame == null) {
+        return gameMessageService.sendGameEventMessage(gameEventBuilder.getWrongGameIdEvent(),
           webSocketSession, false);
       }
-      return setPlayer2(gameSession, webSocketSession, ships).then(startGame(webSocketSession, gameSession));
+      return friendGame.getMailbox().submit(() ->
+        setPlayer2(friendGame, webSocketSession, ships, isDeltaEvents(command)).then(startGame(webSocketSession, friendGame)));
     }
   }
 
   @Override
   public Mono<Void> handleJoinAiRequest(WebSocketSession webSocketSession, GameCommand command, List<Ship> ships) {
     Mono<Void> validationResult = gameRequestValidationService.validateJoinRequest(
-      webSocketSession, ships, currentGameIdForWebSocketSession.get(webSocketSession.getId()) != null);
+      webSocketSession, ships, isInGame(webSocketSession));
     if (validationResult != null) {
       return validationResult;
     }
-    GameSession gameSession = new GameSession(executorService, objectMapper);
+    GameSession gameSession = new GameSession(mailboxScheduler);
     gameSession.setId(UUID.randomUUID().toString());
     gameSession.setAgainstAI(true);
     gameSession.setActiveShipsPlayer2(aiOpponentService.getRandomShips());
-    return setPlayer1(gameSession, webSocketSession, ships).then(createNewGameSession(gameSession))
+    gameSession.setAiTargetBoard(new TargetBoard(
+      gameSession.getStrikeBoardPlayer2(),
+      gameSession.getSunkenShipsPlayer1(),
+      gameSession.getActiveShipsPlayer1(),
+      command.getDifficulty() == null ? AIDifficultyType.NORMAL : command.getDifficulty()));
+    return setPlayer1(gameSession, webSocketSession, ships, isDeltaEvents(command)).then(createNewGameSession(gameSession))
       .then(startGame(webSocketSession, gameSession));
   }
 
@@ -137,66 +168,120 @@ public class GameSessionServiceImpl implements GameSessionService {
     if (uuidValidationResult != null) {
       return uuidValidationResult;
     }
-    return Mono.delay(Duration.ofSeconds(RECONNECT_DELAY_TIME_IN_SECONDS))
+    return gameTimerService.delay(Duration.ofSeconds(RECONNECT_DELAY_TIME_IN_SECONDS))
       .then(Mono.defer(() -> {
         GameSession gameSession = gameSessions.get(command.getGameId());
-        Mono<Void> validationResult = gameRequestValidationService.validateReconnectRequest(
-          webSocketSession, gameSession);
-        if (validationResult != null) {
-          return validationResult;
-        }
-        if (!gameSession.isPlayer1Connected()) {
-          gameSession.setSessionPlayer1(webSocketSession);
-          gameSession.setPlayer1Connected(true);
-          currentGameIdForWebSocketSession.put(webSocketSession.getId(), gameSession.getId());
-          GameEvent gameEvent = gameEventBuilder.getReconnectAsPlayer1Event(gameSession);
-          if (gameSession.isAgainstAI() && gameSession.getGameState() == GameStateType.TURN_PLAYER2) {
-            return gameMessageService.sendGameEventMessage(
-              gameEvent, webSocketSession, false).then(Mono.defer(() -> handleAiStrike(webSocketSession, gameSession)));
-          }
-          return gameMessageService.sendGameEventMessage(gameEvent, webSocketSession, false);
-        }
-        gameSession.setSessionPlayer2(webSocketSession);
-        gameSession.setPlayer2Connected(true);
-        currentGameIdForWebSocketSession.put(webSocketSession.getId(), gameSession.getId());
-        return gameMessageService.sendGameEventMessage(
-          gameEventBuilder.getReconnectAsPlayer2Event(gameSession), webSocketSession, false);
+        return inMailbox(gameSession, () -> processReconnectRequest(webSocketSession, command, gameSession));
       }));
   }
 
+  private Mono<Void> processReconnectRequest(WebSocketSession webSocketSession, GameCommand command, GameSession gameSession) {
+    Mono<Void> validationResult = gameRequestValidationService.validateReconnectRequest(
+      webSocketSession, gameSession);
+    if (validationResult != null) {
+      return validationResult;
+    }
+    if (!gameSession.isPlayer1Connected()) {
+      gameSession.setSessionPlayer1(webSocketSession);
+      gameSession.setPlayer1Connected(true);
+      gameSession.setDeltaEventsPlayer1(isDeltaEvents(command));
+      joinGame(webSocketSession, gameSession, PlayerSlotType.PLAYER1);
+      GameEvent gameEvent = gameEventBuilder.getReconnectAsPlayer1Event(gameSession);
+      if (gameSession.isAgainstAI() && gameSession.getGameState() == GameStateType.TURN_PLAYER2) {
+        return gameMessageService.sendGameEventMessage(
+          gameEvent, webSocketSession, false).then(Mono.defer(() -> handleAiStrike(webSocketSession, gameSession)));
+      }
+      return gameMessageService.sendGameEventMessage(gameEvent, webSocketSession, false);
+    }
+    gameSession.setSessionPlayer2(webSocketSession);
+    gameSession.setPlayer2Connected(true);
+    gameSession.setDeltaEventsPlayer2(isDeltaEvents(command));
+    joinGame(webSocketSession, gameSession, PlayerSlotType.PLAYER2);
+    return gameMessageService.sendGameEventMessage(
+      gameEventBuilder.getReconnectAsPlayer2Event(gameSession), webSocketSession, false);
+  }
+
+  @Override
+  public Mono<Void> handleSyncRequest(WebSocketSession webSocketSession, GameCommand command) {
+    Mono<Void> uuidValidationResult = gameRequestValidationService.validateUUID(webSocketSession, command.getGameId());
+    if (uuidValidationResult != null) {
+      return uuidValidationResult;
+    }
+    GameSession gameSession = getGameSession(webSocketSession, command.getGameId());
+    return inMailbox(gameSession, () -> processSyncRequest(webSocketSession, command, gameSession));
+  }
+
+  /*
+  Called while sending. Game events are sent from the game's mailbox, where the snapshot is built right away, but text
+  frames are also sent from inbound handling. The game must not be read there, so the snapshot is sent from the
+  mailbox afterwards instead.
+   */
+  @Override
+  public Optional<GameEvent> getSnapshotEvent(WebSocketSession webSocketSession) {
+    ConnectionContext context = ConnectionContext.of(webSocketSession);
+    GameSession gameSession = context == null ? null : context.getGameSession();
+    if (gameSession == null) {
+      return Optional.empty();
+    }
+    if (!gameSession.getMailbox().isCurrentThreadDraining()) {
+      gameSession.getMailbox().execute(() -> getSnapshotEventInMailbox(webSocketSession, gameSession)
+        .ifPresent(event -> gameMessageService.sendGameEventMessage(event, webSocketSession, false).subscribe()));
+      return Optional.empty();
+    }
+    return getSnapshotEventInMailbox(webSocketSession, gameSession);
+  }
+
+  private Optional<GameEvent> getSnapshotEventInMailbox(WebSocketSession webSocketSession, GameSession gameSession) {
+    if (!gameSession.isGameStarted() || gameSessions.get(gameSession.getId()) != gameSession) {
+      return Optional.empty();
+    }
+    PlayerView playerView = gameSessionResolver.resolve(webSocketSession, gameSession);
+    return playerView == null ? Optional.empty() : Optional.of(gameEventBuilder.getSyncEvent(playerView));
+  }
+
+  private Mono<Void> processSyncRequest(WebSocketSession webSocketSession, GameCommand command, GameSession gameSession) {
+    PlayerView playerView = gameSessionResolver.resolve(webSocketSession, gameSession);
+    Mono<Void> validationResult = gameRequestValidationService.validateSyncRequest(
+      webSocketSession, gameSession, playerView, command.getGameId());
+    if (validationResult != null) {
+      return validationResult;
+    }
+    return gameMessageService.sendGameEventMessage(gameEventBuilder.getSyncEvent(playerView), webSocketSession, false);
+  }
+
   @Override
   public Mono<Void> handleLeaveRequest(WebSocketSession webSocketSession, GameCommand command) {
     Mono<Void> uuidValidationResult = gameRequestValidationService.validateUUID(webSocketSession, command.getGameId());
     if (uuidValidationResult != null) {
       return uuidValidationResult;
     }
-    GameSession gameSession = gameSessions.get(command.getGameId());
+    GameSession gameSession = getGameSession(webSocketSession, command.getGameId());
+    return inMailbox(gameSession, () -> processLeaveRequest(webSocketSession, command, gameSession));
+  }
+
+  private Mono<Void> processLeaveRequest(WebSocketSession webSocketSession, GameCommand command, GameSession gameSession) {
+    PlayerView playerView = gameSessionResolver.resolve(webSocketSession, gameSession);
     Mono<Void> validationResult = gameRequestValidationService.validateLeaveRequest(
-      webSocketSession, gameSession, command.getGameId());
+      webSocketSession, gameSession, playerView, command.getGameId());
     if (validationResult != null) {
       return validationResult;
     }
+    // Recipients are read here in the mailbox, the removal completes on the statistics save's thread.
+    WebSocketSession adversarySession = playerView.getAdversarySession();
+    boolean isAdversaryConnected = playerView.isAdversaryConnected();
     // Closes the webSocketSessions of the gameSession if connected.
     return removeGameSession(gameSession.getId(), false)
       .then(Mono.defer(() -> {
-        if ((gameSession.getSessionPlayer1().equals(webSocketSession) && gameSession.isPlayer2Connected()) ||
-          (gameSession.getSessionPlayer2().equals(webSocketSession) && gameSession.isPlayer1Connected())) {
+        if (isAdversaryConnected) {
           return gameMessageService.sendGameEventMessages(
             gameEventBuilder.getOpponentLeftEvent(),
-            gameSession.getSessionPlayer1().equals(webSocketSession) ? gameSession.getSessionPlayer2()
-              : gameSession.getSessionPlayer1(),
+            adversarySession,
             gameEventBuilder.getEmptyEvent(),
             webSocketSession,
             true
           );
-        } else {
-          return gameMessageService.sendGameEventMessage(
-            gameEventBuilder.getEmptyEvent(),
-            gameSession.getSessionPlayer1().equals(webSocketSession) ? gameSession.getSessionPlayer1()
-              : gameSession.getSessionPlayer2(),
-            true
-          );
         }
+        return gameMessageService.sendGameEventMessage(gameEventBuilder.getEmptyEvent(), webSocketSession, true);
       }));
   }
 
@@ -207,26 +292,27 @@ public class GameSessionServiceImpl implements GameSessionService {
    */
   @Override
   public Mono<Void> handleClosedSession(WebSocketSession session) {
-    String gameId = currentGameIdForWebSocketSession.get(session.getId());
-    if (gameId == null) {
-      return Mono.empty();
-    }
-    currentGameIdForWebSocketSession.remove(session.getId());
-    GameSession game = gameSessions.get(gameId);
-    if (game == null) {
+    ConnectionContext context = ConnectionContext.of(session);
+    GameSession game = context == null ? null : context.leaveGame();
+    if (game == null || gameSessions.get(game.getId()) != game) {
       return Mono.empty();
     }
+    return game.getMailbox().submit(() -> processClosedSession(session, game));
+  }
+
+  private Mono<Void> processClosedSession(WebSocketSession session, GameSession game) {
+    String gameId = game.getId();
     if (session.equals(game.getSessionPlayer1())) {
       if (!game.isPlayer2Connected()) {
         if (game.isAgainstAI()) {
           game.setPlayer1Connected(false);
-          return Mono.delay(Duration.ofSeconds(10))
-            .flatMap(checkIfReconnected -> {
+          return gameTimerService.delay(Duration.ofSeconds(AI_DISCONNECT_GRACE_TIME_IN_SECONDS))
+            .then(game.getMailbox().submit(() -> {
               if (game.isPlayer1Connected()) {
                 return Mono.empty();
               }
               return removeGameSession(gameId, false);
-            });
+            }));
         }
         return removeGameSession(gameId, false);
       } else {
@@ -248,47 +334,49 @@ public class GameSessionServiceImpl implements GameSessionService {
     if (uuidValidationResult != null) {
       return uuidValidationResult;
     }
-    GameSession gameSession = gameSessions.get(command.getGameId());
+    GameSession gameSession = getGameSession(webSocketSession, command.getGameId());
+    return inMailbox(gameSession, () -> processStrikeRequest(webSocketSession, command, gameSession));
+  }
+
+  private Mono<Void> processStrikeRequest(WebSocketSession webSocketSession, GameCommand command, GameSession gameSession) {
+    PlayerView playerView = gameSessionResolver.resolve(webSocketSession, gameSession);
     Mono<Void> validationResult = gameRequestValidationService.validateStrikeRequest(
-      webSocketSession, gameSession, command);
+      webSocketSession, gameSession, playerView, command);
     if (validationResult != null) {
       return validationResult;
     }
     Boolean isShipSunk = handleStrikeAndSeeIfShipIsSunk(
       command.getStrikeRow(),
       command.getStrikeColumn(),
-      gameSessionResolver.getCurrentSessionStrikes(webSocketSession, gameSession),
-      gameSessionResolver.getAdversaryActiveShips(webSocketSession, gameSession),
-      gameSessionResolver.getAdversarySunkenShips(webSocketSession, gameSession));
-    if (isShipSunk && gameRuleService.isAllShipsSunk(gameSessionResolver.getAdversaryActiveShips(webSocketSession, gameSession))) {
-      if (gameSession.isAgainstAI()) {
-        return handleWin(webSocketSession, null, gameSession);
-      }
-      return handleWin(webSocketSession, gameSessionResolver.getAdversarySession(webSocketSession, gameSession), gameSession);
+      playerView.getOwnStrikeBoard(),
+      playerView.getAdversaryShipBoard(),
+      playerView.getAdversaryActiveShips(),
+      playerView.getAdversarySunkenShips());
+    if (isShipSunk && gameRuleService.isAllShipsSunk(playerView.getAdversaryActiveShips())) {
+      return handleWin(playerView);
     }
-    gameSession.setGameState(
-      webSocketSession.equals(gameSession.getSessionPlayer1()) ? GameStateType.TURN_PLAYER2 : GameStateType.TURN_PLAYER1);
-    gameSession.startTimer();
-    GameEvent currentSessionEvent = gameEventBuilder.getCurrentSessionStrikeEvent(webSocketSession, gameSession, isShipSunk);
+    gameSession.setGameState(playerView.getAdversaryTurnState());
+    startTurnTimer(gameSession);
+    GameEvent currentSessionEvent = gameEventBuilder.getCurrentSessionStrikeEvent(playerView, isShipSunk);
     if (gameSession.isAgainstAI()) {
       return gameMessageService.sendGameEventMessage(
         currentSessionEvent,
         webSocketSession,
-        false).then(Mono.delay(Duration.ofSeconds(AI_RESPONSE_TIME_IN_SECONDS))
-        .flatMap(tick -> handleAiStrike(webSocketSession, gameSession)));
+        false).then(gameTimerService.delay(Duration.ofSeconds(AI_RESPONSE_TIME_IN_SECONDS))
+        .then(Mono.defer(() -> handleAiStrike(webSocketSession, gameSession))));
     }
-    if (!gameSessionResolver.isAdversaryConnected(webSocketSession, gameSession)) {
+    if (!playerView.isAdversaryConnected()) {
       return gameMessageService.sendGameEventMessage(
         currentSessionEvent,
         webSocketSession,
         false);
     }
-    GameEvent adversaryEvent = gameEventBuilder.getAdversaryStrikeEvent(webSocketSession, gameSession, isShipSunk);
+    GameEvent adversaryEvent = gameEventBuilder.getAdversaryStrikeEvent(playerView, isShipSunk);
     return gameMessageService.sendGameEventMessages(
       currentSessionEvent,
       webSocketSession,
       adversaryEvent,
-      gameSessionResolver.getAdversarySession(webSocketSession, gameSession),
+      playerView.getAdversarySession(),
       false);
   }
 
@@ -297,20 +385,74 @@ public class GameSessionServiceImpl implements GameSessionService {
     return Mono.just(new ActiveGamesDTO(gameSessions.size()));
   }
 
-  private Mono<Void> handleWin(WebSocketSession winnerSession, WebSocketSession loserSession, GameSession gameSession) {
+  /*
+  Runs all reads and mutations of a game in its own mailbox, a missing game is passed through for validation.
+   */
+  private Mono<Void> inMailbox(GameSession gameSession, Supplier<Mono<Void>> action) {
+    if (gameSession == null) {
+      return action.get();
+    }
+    return gameSession.getMailbox().submit(action);
+  }
+
+  private boolean isDeltaEvents(GameCommand command) {
+    return Boolean.TRUE.equals(command.getIsDeltaEvents());
+  }
+
+  /*
+  Commands for the game the connection is in are resolved from its context, others through the games map.
+   */
+  private GameSession getGameSession(WebSocketSession webSocketSession, String gameId) {
+    ConnectionContext context = ConnectionContext.of(webSocketSession);
+    GameSession currentGame = context == null ? null : context.getGameSession();
+    if (currentGame != null && currentGame.getId().equals(gameId)) {
+      return currentGame;
+    }
+    return gameSessions.get(gameId);
+  }
+
+  private boolean isInGame(WebSocketSession webSocketSession) {
+    ConnectionContext context = ConnectionContext.of(webSocketSession);
+    return context != null && context.isInGame();
+  }
+
+  private void joinGame(WebSocketSession webSocketSession, GameSession gameSession, PlayerSlotType playerSlot) {
+    ConnectionContext context = ConnectionContext.of(webSocketSession);
+    if (context != null) {
+      context.joinGame(gameSession, playerSlot);
+    }
+  }
+
+  private void detachConnection(WebSocketSession webSocketSession, GameSession gameSession) {
+    ConnectionContext context = webSocketSession == null ? null : ConnectionContext.of(webSocketSession);
+    if (context != null && context.getGameSession() == gameSession) {
+      context.leaveGame();
+    }
+  }
+
+  /*
+  Events and recipients are taken from the views in the mailbox, before the removal. Against the AI only player 1 has
+  a session to tell.
+   */
+  private Mono<Void> handleWin(PlayerView winnerView) {
+    GameSession gameSession = winnerView.getGameSession();
+    PlayerView loserView = winnerView.getAdversaryView();
     if (gameSession.isAgainstAI()) {
-      if (gameSession.isPlayer1Connected()) {
-        return removeGameSession(gameSession.getId(), true)
-          .then(gameMessageService.sendGameEventMessage(
-            winnerSession == null ? gameEventBuilder.getLoseEvent(loserSession, gameSession)
-              : gameEventBuilder.getWinEvent(winnerSession, gameSession),
-            winnerSession == null ? loserSession : winnerSession,
-            true));
+      if (!gameSession.isPlayer1Connected()) {
+        return removeGameSession(gameSession.getId(), true);
       }
+      boolean isPlayerWinner = winnerView.getSlot() == PlayerSlotType.PLAYER1;
+      GameEvent playerEvent = isPlayerWinner ? gameEventBuilder.getWinEvent(winnerView)
+        : gameEventBuilder.getLoseEvent(loserView);
+      WebSocketSession playerSession = gameSession.getSessionPlayer1();
+      return removeGameSession(gameSession.getId(), true)
+        .then(gameMessageService.sendGameEventMessage(playerEvent, playerSession, true));
     }
-    GameEvent winnerEvent = gameEventBuilder.getWinEvent(winnerSession, gameSession);
-    GameEvent loserEvent = gameEventBuilder.getLoseEvent(loserSession, gameSession);
-    if (gameSessionResolver.isAdversaryConnected(winnerSession, gameSession)) {
+    GameEvent winnerEvent = gameEventBuilder.getWinEvent(winnerView);
+    WebSocketSession winnerSession = winnerView.getOwnSession();
+    if (winnerView.isAdversaryConnected()) {
+      GameEvent loserEvent = gameEventBuilder.getLoseEvent(loserView);
+      WebSocketSession loserSession = loserView.getOwnSession();
       return removeGameSession(gameSession.getId(), true)
         .then(gameMessageService.sendGameEventMessages(winnerEvent, winnerSession, loserEvent, loserSession, true));
     }
@@ -323,6 +465,9 @@ public class GameSessionServiceImpl implements GameSessionService {
     if (session == null) {
       return Mono.empty();
     }
+    matchmakingQueue.withdraw(session);
+    detachConnection(session.getSessionPlayer1(), session);
+    detachConnection(session.getSessionPlayer2(), session);
     return handleGameStatistics(session, isGameCompleted)
       .doFinally(signalType -> {
         session.removeTimer();
@@ -330,18 +475,19 @@ public class GameSessionServiceImpl implements GameSessionService {
       });
   }
 
-  private Boolean handleStrikeAndSeeIfShipIsSunk(int strikeRow, int strikeColumn, List<Strike> ownStrikes,
-    List<Ship> opponentActiveShips, List<Ship> opponentSunkenShips) {
-    boolean isHit = gameRuleService.isStrikeMatchingShipCoordinate(strikeRow, strikeColumn, opponentActiveShips);
-    ownStrikes.add(new Strike(new Coordinate(strikeRow, strikeColumn), isHit));
+  private Boolean handleStrikeAndSeeIfShipIsSunk(int strikeRow, int strikeColumn, StrikeBoard ownStrikes,
+    Bitboard opponentShipBoard, List<Ship> opponentActiveShips, List<Ship> opponentSunkenShips) {
+    boolean isHit = gameRuleService.isStrikeMatchingShipCoordinate(strikeRow, strikeColumn, opponentShipBoard);
+    ownStrikes.addStrike(strikeRow, strikeColumn, isHit);
     if (isHit) {
-      return handleHitAndSeeIfShipIsSunk(ownStrikes, opponentActiveShips, opponentSunkenShips);
+      return handleHitAndSeeIfShipIsSunk(strikeRow, strikeColumn, opponentActiveShips, opponentSunkenShips);
     }
     return false;
   }
 
-  private Boolean handleHitAndSeeIfShipIsSunk(List<Strike> ownStrikes, List<Ship> opponentActiveShips, List<Ship> opponentSunkenShips) {
-    return gameRuleService.getShipIfSunken(ownStrikes, opponentActiveShips)
+  private Boolean handleHitAndSeeIfShipIsSunk(int strikeRow, int strikeColumn, List<Ship> opponentActiveShips,
+    List<Ship> opponentSunkenShips) {
+    return gameRuleService.registerHitAndGetSunkenShip(strikeRow, strikeColumn, opponentActiveShips)
       .map(ship -> {
         opponentActiveShips.remove(ship);
         opponentSunkenShips.add(ship);
@@ -356,11 +502,11 @@ public class GameSessionServiceImpl implements GameSessionService {
         .isAiGame(session.isAgainstAI())
         .isCompleted(isGameCompleted)
         .isWonAgainstAi(session.getSunkenShipsPlayer2() != null && session.getSunkenShipsPlayer2().size() == 5)
-        .hitsPlayer1((int) session.getStrikesPlayer1().stream().filter(Strike::isHit).count())
-        .missesPlayer1((int) session.getStrikesPlayer1().stream().filter(strike -> !strike.isHit()).count())
+        .hitsPlayer1(session.getStrikeBoardPlayer1().getHitCount())
+        .missesPlayer1(session.getStrikeBoardPlayer1().getMissCount())
         .shipsSunkPlayer1(session.getSunkenShipsPlayer1().size())
-        .hitsPlayer2((int) session.getStrikesPlayer2().stream().filter(Strike::isHit).count())
-        .missesPlayer2((int) session.getStrikesPlayer2().stream().filter(strike -> !strike.isHit()).count())
+        .hitsPlayer2(session.getStrikeBoardPlayer2().getHitCount())
+        .missesPlayer2(session.getStrikeBoardPlayer2().getMissCount())
         .shipsSunkPlayer2(session.getSunkenShipsPlayer2().size())
         .build();
       return gameStatisticsService.saveGameStatistics(gameStatistics);
@@ -374,25 +520,29 @@ public class GameSessionServiceImpl implements GameSessionService {
     return Mono.empty();
   }
 
-  private Mono<Void> setPlayer1(GameSession gameSession, WebSocketSession webSocketSession, List<Ship> ships) {
+  private Mono<Void> setPlayer1(GameSession gameSession, WebSocketSession webSocketSession, List<Ship> ships,
+    boolean isDeltaEvents) {
     gameSession.setActiveShipsPlayer1(ships);
+    gameSession.setDeltaEventsPlayer1(isDeltaEvents);
     gameSession.setSessionPlayer1(webSocketSession);
     gameSession.setPlayer1Connected(true);
-    currentGameIdForWebSocketSession.put(webSocketSession.getId(), gameSession.getId());
+    joinGame(webSocketSession, gameSession, PlayerSlotType.PLAYER1);
     return Mono.empty();
   }
 
-  private Mono<Void> setPlayer2(GameSession gameSession, WebSocketSession webSocketSession, List<Ship> ships) {
+  private Mono<Void> setPlayer2(GameSession gameSession, WebSocketSession webSocketSession, List<Ship> ships,
+    boolean isDeltaEvents) {
     gameSession.setActiveShipsPlayer2(ships);
+    gameSession.setDeltaEventsPlayer2(isDeltaEvents);
     gameSession.setSessionPlayer2(webSocketSession);
     gameSession.setPlayer2Connected(true);
-    currentGameIdForWebSocketSession.put(webSocketSession.getId(), gameSession.getId());
+    joinGame(webSocketSession, gameSession, PlayerSlotType.PLAYER2);
     return Mono.empty();
   }
 
   private Mono<Void> startGame(WebSocketSession webSocketSession, GameSession gameSession) {
     gameSession.setGameStarted(true);
-    gameSession.startTimer();
+    startTurnTimer(gameSession);
     if (gameSession.isAgainstAI()) {
       return gameMessageService.sendGameEventMessage(
         gameEventBuilder.getAdversaryStartGameEvent(gameSession),
@@ -407,23 +557,62 @@ public class GameSessionServiceImpl implements GameSessionService {
       false);
   }
 
+  private void startTurnTimer(GameSession gameSession) {
+    Duration duration = Duration.ofSeconds(TURN_TIMEOUT_IN_SECONDS);
+    gameSession.setTurnTimeout(
+      gameTimerService.schedule(timeout -> gameSession.getMailbox().execute(() -> handleTurnTimeout(gameSession, timeout)), duration),
+      duration);
+  }
+
+  /*
+  Tells the player whose turn it was that they timed out and the opponent that they won, then closes both connections.
+  The game itself is removed when the closed sessions are handled.
+   */
+  private void handleTurnTimeout(GameSession gameSession, Timeout timeout) {
+    if (!gameSession.isCurrentTurnTimeout(timeout)) {
+      return;
+    }
+    gameSession.removeTimer();
+    boolean isPlayer1Turn = gameSession.getGameState() == GameStateType.TURN_PLAYER1;
+    GameEvent ownTimeoutEvent = gameEventBuilder.getTimeoutEvent(true);
+    GameEvent opponentTimeoutEvent = gameEventBuilder.getTimeoutEvent(false);
+    Mono<Void> timeoutPlayer1 = Mono.empty();
+    Mono<Void> timeoutPlayer2 = Mono.empty();
+    if (gameSession.isPlayer1Connected() && gameSession.getSessionPlayer1() != null) {
+      timeoutPlayer1 = gameMessageService.sendGameEventMessage(
+        isPlayer1Turn ? ownTimeoutEvent : opponentTimeoutEvent, gameSession.getSessionPlayer1(), true);
+    }
+    if (gameSession.isPlayer2Connected() && gameSession.getSessionPlayer2() != null) {
+      timeoutPlayer2 = gameMessageService.sendGameEventMessage(
+        isPlayer1Turn ? opponentTimeoutEvent : ownTimeoutEvent, gameSession.getSessionPlayer2(), true);
+    }
+    Mono.when(timeoutPlayer1, timeoutPlayer2)
+      .doOnError(error -> log.error("Failed to send timeout messages: {}", error.getMessage(), error))
+      .subscribe();
+  }
+
   private Mono<Void> handleAiStrike(WebSocketSession webSocketSession, GameSession gameSession) {
+    return gameSession.getMailbox().submit(() -> aiOpponentService.getNextStrike(gameSession.getAiTargetBoard()))
+      .flatMap(strike -> gameSession.getMailbox().submit(() -> processAiStrike(webSocketSession, gameSession, strike)));
+  }
+
+  private Mono<Void> processAiStrike(WebSocketSession webSocketSession, GameSession gameSession, Coordinate strike) {
+    // The strike may have been computed off the game's thread, only the first one for this turn is applied.
+    if (gameSession.getGameState() != GameStateType.TURN_PLAYER2) {
+      return Mono.empty();
+    }
     gameSession.setGameState(GameStateType.TURN_PLAYER1);
-    Coordinate strike = aiOpponentService.getNextStrike(
-      gameSession.getStrikesPlayer2(),
-      gameSession.getSunkenShipsPlayer1(),
-      gameSession.getActiveShipsPlayer1()
-    );
     Boolean isShipSunk = handleStrikeAndSeeIfShipIsSunk(
       strike.getRow(),
       strike.getColumn(),
-      gameSession.getStrikesPlayer2(),
+      gameSession.getStrikeBoardPlayer2(),
+      gameSession.getShipBoardPlayer1(),
       gameSession.getActiveShipsPlayer1(),
       gameSession.getSunkenShipsPlayer1());
     if (isShipSunk && gameRuleService.isAllShipsSunk(gameSession.getActiveShipsPlayer1())) {
-      return handleWin(null, webSocketSession, gameSession);
+      return handleWin(PlayerView.of(gameSession, PlayerSlotType.PLAYER2));
     }
-    gameSession.startTimer();
+    startTurnTimer(gameSession);
     if (gameSession.isPlayer1Connected()) {
       return gameMessageService.sendGameEventMessage(
         gameEventBuilder.getAiStrikeEvent(gameSession, isShipSunk), webSocketSession, false);
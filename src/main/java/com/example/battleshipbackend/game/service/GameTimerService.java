@@ -0,0 +1,12 @@
+package com.example.battleshipbackend.game.service;
+
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import java.time.Duration;
+import reactor.core.publisher.Mono;
+
+public interface GameTimerService {
+  Timeout schedule(TimerTask task, Duration delay);
+
+  Mono<Void> delay(Duration delay);
+}
@@ -0,0 +1,55 @@
+package com.example.battleshipbackend.game.service;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/*
+One hashed timing wheel shared by all games, scheduling and cancelling is O(1) whatever the number of pending timers,
+and cancelled timers are dropped from their bucket on the next tick. Timers fire on the wheel's single worker thread,
+so tasks must only hand work off, e.g. to a game's mailbox. Delays are rounded up to the tick duration.
+ */
+@Log4j2
+@Service
+public class GameTimerServiceImpl implements GameTimerService {
+
+  private final HashedWheelTimer timer;
+
+  public GameTimerServiceImpl(
+    @Value("${battleship.timer.tick-millis:100}") long tickMillis,
+    @Value("${battleship.timer.ticks-per-wheel:1024}") int ticksPerWheel) {
+    this.timer = new HashedWheelTimer(
+      new DefaultThreadFactory("game-timer", true), tickMillis, TimeUnit.MILLISECONDS, ticksPerWheel);
+    this.timer.start();
+  }
+
+  @Override
+  public Timeout schedule(TimerTask task, Duration delay) {
+    return timer.newTimeout(task, delay.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /*
+  Completes on the timer thread, callers should continue in a mailbox or on another scheduler.
+   */
+  @Override
+  public Mono<Void> delay(Duration delay) {
+    return Mono.create(sink -> {
+      Timeout timeout = schedule(ignored -> sink.success(), delay);
+      sink.onCancel(timeout::cancel);
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    int pendingTimeouts = timer.stop().size();
+    log.info("Stopped game timer with {} pending timeouts", pendingTimeouts);
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.battleshipbackend.webSocket;
+
+import com.example.battleshipbackend.game.enums.PlayerSlotType;
+import com.example.battleshipbackend.game.model.GameSession;
+import com.example.battleshipbackend.webSocket.codec.GameMessageCodec;
+import com.example.battleshipbackend.webSocket.ratelimit.ConnectionRateLimiter;
+import lombok.Getter;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+/**
+ * Everything the server keeps for one WebSocket connection, created when the connection is handled and stored in the
+ * session attributes, so per-message work reaches the outbound queue, rate limiter, codec and current game from the
+ * session itself instead of through maps keyed by session id.
+ */
+@Getter
+public class ConnectionContext {
+
+  private static final String ATTRIBUTE = ConnectionContext.class.getName();
+
+  private final WebSocketSession session;
+  private final GameMessageCodec codec;
+  private final ConnectionRateLimiter rateLimiter;
+  private final OutboundQueue outboundQueue;
+  // Written in the game's mailbox, read from the connection's inbound handling.
+  private volatile GameSession gameSession;
+  private volatile PlayerSlotType playerSlot;
+
+  public ConnectionContext(WebSocketSession session, GameMessageCodec codec, ConnectionRateLimiter rateLimiter,
+    OutboundQueue outboundQueue) {
+    this.session = session;
+    this.codec = codec;
+    this.rateLimiter = rateLimiter;
+    this.outboundQueue = outboundQueue;
+  }
+
+  public static ConnectionContext of(WebSocketSession session) {
+    return (ConnectionContext) session.getAttributes().get(ATTRIBUTE);
+  }
+
+  public void attach() {
+    session.getAttributes().put(ATTRIBUTE, this);
+  }
+
+  public void joinGame(GameSession gameSession, PlayerSlotType playerSlot) {
+    this.playerSlot = playerSlot;
+    this.gameSession = gameSession;
+  }
+
+  /**
+   * Detaches the connection from its game and returns that game, null when it was not in one.
+   */
+  public GameSession leaveGame() {
+    GameSession previous = gameSession;
+    gameSession = null;
+    playerSlot = null;
+    return previous;
+  }
+
+  public boolean isInGame() {
+    return gameSession != null;
+  }
+}
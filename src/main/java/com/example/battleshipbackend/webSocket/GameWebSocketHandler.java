@@ -1,17 +1,15 @@
 package com.example.battleshipbackend.webSocket;
 
+import com.example.battleshipbackend.constants.TextMessages;
 import com.example.battleshipbackend.game.converter.GameDtoConverter;
 import com.example.battleshipbackend.game.service.GameMessageService;
 import com.example.battleshipbackend.game.service.GameSessionService;
 import com.example.battleshipbackend.game.dto.request.GameCommand;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.battleshipbackend.webSocket.codec.GameMessageCodec;
+import com.example.battleshipbackend.webSocket.codec.GameMessageCodecRegistry;
+import com.example.battleshipbackend.webSocket.ratelimit.ConnectionRateLimiter;
+import com.example.battleshipbackend.webSocket.ratelimit.RateLimitProperties;
 import java.io.IOException;
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -20,60 +18,61 @@ import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 @Log4j2
 @Component
 public class GameWebSocketHandler implements WebSocketHandler {
 
-  private final ObjectMapper objectMapper;
+  private final GameMessageCodecRegistry gameMessageCodecRegistry;
   private final GameSessionService gameSessionService;
   private final GameDtoConverter gameDtoConverter;
   private final GameMessageService gameMessageService;
   private final WebSocketSinkRegistry webSocketSinkRegistry;
-  private static final int MAX_MESSAGES = 20;
-  private static final Duration BUCKET_INTERVAL = Duration.ofSeconds(5);
-
-  private final Map<String, AtomicInteger> sessionMessageCounters = new ConcurrentHashMap<>();
+  private final OutboundFrameBatcher outboundFrameBatcher;
+  private final RateLimitProperties rateLimitProperties;
 
   @Autowired
   public GameWebSocketHandler(
-    ObjectMapper objectMapper,
+    GameMessageCodecRegistry gameMessageCodecRegistry,
     GameSessionService gameSessionService,
     GameDtoConverter gameDtoConverter,
     GameMessageService gameMessageService,
-    WebSocketSinkRegistry webSocketSinkRegistry) {
-    this.objectMapper = objectMapper;
+    WebSocketSinkRegistry webSocketSinkRegistry,
+    OutboundFrameBatcher outboundFrameBatcher,
+    RateLimitProperties rateLimitProperties) {
+    this.gameMessageCodecRegistry = gameMessageCodecRegistry;
     this.gameSessionService = gameSessionService;
     this.gameDtoConverter = gameDtoConverter;
     this.gameMessageService = gameMessageService;
     this.webSocketSinkRegistry = webSocketSinkRegistry;
-    Schedulers.single()
-      .schedulePeriodically(this::resetAllCounters, BUCKET_INTERVAL.toMillis(), BUCKET_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
-  }
-
-  private void resetAllCounters() {
-    sessionMessageCounters.forEach((sessionId, counter) -> counter.set(0));
+    this.outboundFrameBatcher = outboundFrameBatcher;
+    this.rateLimitProperties = rateLimitProperties;
   }
 
   @Override
   public Mono<Void> handle(WebSocketSession session) {
     log.info("Created WebSocketSession <{}>", session.getId());
-    sessionMessageCounters.putIfAbsent(session.getId(), new AtomicInteger(0));
+    ConnectionContext context = new ConnectionContext(
+      session,
+      gameMessageCodecRegistry.forSession(session),
+      new ConnectionRateLimiter(rateLimitProperties),
+      webSocketSinkRegistry.createQueue(session));
+    context.attach();
+    ConnectionRateLimiter rateLimiter = context.getRateLimiter();
+    GameMessageCodec codec = context.getCodec();
 
-    Flux<WebSocketMessage> outputFlux = Flux.<WebSocketMessage>create(sink -> {
-      webSocketSinkRegistry.register(session.getId(), sink);
-    }).doFinally(signal -> webSocketSinkRegistry.close(session.getId()));
+    Flux<WebSocketMessage> outputFlux = context.getOutboundQueue().asFlux()
+      .doFinally(signal -> webSocketSinkRegistry.close(session));
 
     Mono<Void> input = session.receive()
-      .filter(message -> message.getType() == WebSocketMessage.Type.TEXT)
-      .doOnNext(message -> {
-        AtomicInteger counter = sessionMessageCounters.get(session.getId());
-        if (counter.incrementAndGet() > MAX_MESSAGES) {
-          log.warn("Rate limit exceeded <{}> for session <{}>", counter, session.getId());
+      .filter(message -> message.getType() == WebSocketMessage.Type.TEXT || message.getType() == WebSocketMessage.Type.BINARY)
+      .filter(message -> {
+        if (!rateLimiter.tryAcquireMessage()) {
+          log.warn("Rate limit exceeded for session <{}>", session.getId());
+          return false;
         }
+        return true;
       })
-      .filter(message -> sessionMessageCounters.get(session.getId()).get() <= MAX_MESSAGES)
       .onErrorResume(throwable -> {
         log.error("WebSocketSession <{}>: <{}>", session.getId(), throwable.toString());
         if (throwable instanceof IOException) {
@@ -83,20 +82,23 @@ public class GameWebSocketHandler implements WebSocketHandler {
         return Mono.error(throwable);
       })
       .flatMapSequential(message -> {
-        String payload = message.getPayloadAsText().trim();
-        if ("ping".equalsIgnoreCase(payload)) {
-          return gameMessageService.sendStringMessage(session, "pong");
+        if (!codec.isCommandFrame(message)) {
+          return Mono.empty();
         }
         GameCommand command;
         try {
-          command = objectMapper.readValue(message.getPayloadAsText(), GameCommand.class);
-        } catch (JsonProcessingException e) {
+          command = codec.decode(message);
+        } catch (IOException e) {
           log.error("Cast to GameCommand object error <{}>", e.getMessage());
-          return gameMessageService.sendStringMessage(session, "Error: could not convert json to GameCommand object");
+          return gameMessageService.sendStringMessage(session, TextMessages.INVALID_COMMAND);
         }
         if (command.getType() == null) {
           return Mono.empty();
         }
+        if (!rateLimiter.tryAcquireCommand(command.getType())) {
+          log.warn("Rate limit exceeded for command <{}> in session <{}>", command.getType(), session.getId());
+          return Mono.empty();
+        }
         if (command.getGameId() == null) {
           command.setGameId("");
         }
@@ -108,11 +110,11 @@ public class GameWebSocketHandler implements WebSocketHandler {
           case JOIN_AI -> gameSessionService.handleJoinAiRequest(session, command, gameDtoConverter.toListOfShip(command.getShips()));
           case LEAVE -> gameSessionService.handleLeaveRequest(session, command);
           case RECONNECT -> gameSessionService.handleReconnectRequest(session, command);
+          case SYNC -> gameSessionService.handleSyncRequest(session, command);
         };
       }).then();
-    Mono<Void> output = session.send(outputFlux);
+    Mono<Void> output = session.send(outboundFrameBatcher.batch(outputFlux));
     return Mono.when(input, output).doFinally(signal -> {
-      sessionMessageCounters.remove(session.getId());
       gameSessionService.handleClosedSession(session)
         .doOnError(error -> log.error("Error in handleClosedSession: ", error))
         .onErrorComplete()
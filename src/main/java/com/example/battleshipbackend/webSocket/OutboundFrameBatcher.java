@@ -0,0 +1,43 @@
+package com.example.battleshipbackend.webSocket;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import reactor.core.publisher.Flux;
+
+/*
+Reactor Netty writes the frames of a session's outbound publisher as they arrive and flushes whenever it has drained
+what is available, so frames emitted from different game mailboxes a few microseconds apart each cost a flush and a
+syscall. Holding a session's frames for a short window and emitting them as one burst lets Netty write them all and
+flush once. A window of 0 turns batching off. Fair backpressure only emits a batch when the connection asked for
+more, so a client that stops reading keeps its frames upstream instead of failing the timer flush. Frames still held
+in a batch when the connection ends are released.
+ */
+@Component
+public class OutboundFrameBatcher {
+
+  private final Duration batchWindow;
+  private final int maxBatchFrames;
+
+  @Autowired
+  public OutboundFrameBatcher(
+    @Value("${battleship.websocket.outbound.batch-window-micros:200}") long batchWindowMicros,
+    @Value("${battleship.websocket.outbound.max-batch-frames:16}") int maxBatchFrames) {
+    this.batchWindow = Duration.ofNanos(batchWindowMicros * 1000);
+    this.maxBatchFrames = maxBatchFrames;
+  }
+
+  public Flux<WebSocketMessage> batch(Flux<WebSocketMessage> frames) {
+    if (batchWindow.isZero() || maxBatchFrames <= 1) {
+      return frames;
+    }
+    return frames
+      .bufferTimeout(maxBatchFrames, batchWindow, true)
+      .concatMapIterable(batch -> batch)
+      .doOnDiscard(WebSocketMessage.class, message -> DataBufferUtils.release(message.getPayload()));
+  }
+}
@@ -0,0 +1,13 @@
+package com.example.battleshipbackend.webSocket;
+
+/**
+ * What to do with a connection whose outbound queue is full because the client does not read fast enough.
+ */
+public enum OutboundOverflowPolicy {
+  /** Drop the oldest queued frame to make room for the new one. */
+  DROP_OLDEST,
+  /** Drop every queued frame and the new one, and queue one full-state event instead. */
+  SNAPSHOT,
+  /** Drop the new frame and close the connection. */
+  DISCONNECT
+}
@@ -0,0 +1,153 @@
+package com.example.battleshipbackend.webSocket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Bounded outbound frame queue of one connection. Frames wait here until the session's send pipeline asks for them,
+ * which it stops doing while the channel is not writable, so a client that stops reading fills this queue and then
+ * the overflow policy decides what happens instead of the heap growing. State frames carry game state a snapshot
+ * supersedes, every other frame (terminal events, text messages) has to reach the client as it is.
+ */
+@Log4j2
+public class OutboundQueue {
+
+  private final WebSocketSession session;
+  private final int capacity;
+  private final OutboundOverflowPolicy policy;
+  private final Supplier<Optional<WebSocketMessage>> snapshotSupplier;
+  private final OutboundQueueMetrics metrics;
+  private final Queue<OutboundFrame> frames;
+  private final Sinks.Many<OutboundFrame> sink;
+  private boolean isClosing;
+
+  public OutboundQueue(WebSocketSession session, int capacity, OutboundOverflowPolicy policy,
+    Supplier<Optional<WebSocketMessage>> snapshotSupplier, OutboundQueueMetrics metrics) {
+    this.session = session;
+    this.capacity = capacity;
+    this.policy = policy;
+    this.snapshotSupplier = snapshotSupplier;
+    this.metrics = metrics;
+    this.frames = new ArrayBlockingQueue<>(capacity);
+    this.sink = Sinks.many().unicast().onBackpressureBuffer(frames);
+  }
+
+  public Flux<WebSocketMessage> asFlux() {
+    return sink.asFlux()
+      .map(OutboundFrame::message)
+      .doOnDiscard(OutboundFrame.class, OutboundQueue::release);
+  }
+
+  public int size() {
+    return frames.size();
+  }
+
+  /*
+  Synchronized because game mailboxes and the connection's inbound handling can send at the same time,
+  and the unicast sink only accepts serialized emissions.
+   */
+  public synchronized void send(WebSocketMessage message, boolean isStateFrame) {
+    OutboundFrame frame = new OutboundFrame(message, isStateFrame);
+    if (isClosing) {
+      release(frame);
+      return;
+    }
+    Sinks.EmitResult result = sink.tryEmitNext(frame);
+    if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+      metrics.recordOverflow(policy);
+      handleOverflow(frame);
+    } else if (result.isFailure()) {
+      release(frame);
+    }
+  }
+
+  public synchronized void complete() {
+    isClosing = true;
+    sink.tryEmitComplete();
+  }
+
+  private void handleOverflow(OutboundFrame frame) {
+    switch (policy) {
+      case DROP_OLDEST -> dropOldest(frame);
+      case SNAPSHOT -> replaceStateFrames(frame);
+      case DISCONNECT -> {
+        release(frame);
+        metrics.recordDropped(policy, 1);
+        isClosing = true;
+        log.warn("Outbound queue full, closing slow session <{}>", session.getId());
+        session.close(CloseStatus.POLICY_VIOLATION).subscribe();
+      }
+    }
+  }
+
+  private void dropOldest(OutboundFrame frame) {
+    OutboundFrame oldest = frames.poll();
+    if (oldest != null) {
+      release(oldest);
+    }
+    metrics.recordDropped(policy, 1);
+    emitOrRelease(frame);
+  }
+
+  /*
+  Releases the queued and incoming state frames and queues one snapshot in their place, followed by the other frames
+  in their order. Without state frames to replace the oldest frame is dropped. The snapshot may be empty when it can
+  not be built on this thread, the game then sends it from its mailbox, and it is left out when the other frames
+  already fill the queue.
+   */
+  private void replaceStateFrames(OutboundFrame incoming) {
+    List<OutboundFrame> kept = new ArrayList<>(frames.size() + 1);
+    int droppedStateFrames = 0;
+    OutboundFrame queued;
+    while ((queued = frames.poll()) != null) {
+      droppedStateFrames += keepOrRelease(queued, kept);
+    }
+    droppedStateFrames += keepOrRelease(incoming, kept);
+    if (droppedStateFrames == 0) {
+      release(kept.remove(0));
+      metrics.recordDropped(policy, 1);
+    } else {
+      metrics.recordDropped(policy, droppedStateFrames);
+      if (kept.size() < capacity) {
+        snapshotSupplier.get().ifPresent(snapshot -> emitOrRelease(new OutboundFrame(snapshot, true)));
+      }
+    }
+    for (OutboundFrame frame : kept) {
+      emitOrRelease(frame);
+    }
+  }
+
+  private static int keepOrRelease(OutboundFrame frame, List<OutboundFrame> kept) {
+    if (frame.isStateFrame()) {
+      release(frame);
+      return 1;
+    }
+    kept.add(frame);
+    return 0;
+  }
+
+  private void emitOrRelease(OutboundFrame frame) {
+    if (sink.tryEmitNext(frame).isFailure()) {
+      release(frame);
+      metrics.recordDropped(policy, 1);
+    }
+  }
+
+  private static void release(OutboundFrame frame) {
+    DataBufferUtils.release(frame.message().getPayload());
+  }
+
+  private record OutboundFrame(WebSocketMessage message, boolean isStateFrame) {
+  }
+}
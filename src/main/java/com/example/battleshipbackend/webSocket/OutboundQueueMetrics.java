@@ -0,0 +1,41 @@
+package com.example.battleshipbackend.webSocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts overflows of outbound queues under battleship.websocket.outbound.*, tagged by the policy that handled them.
+ * Queue depth is published by the WebSocketSinkRegistry.
+ */
+@Component
+public class OutboundQueueMetrics {
+
+  private final Map<OutboundOverflowPolicy, Counter> overflowCounters = new EnumMap<>(OutboundOverflowPolicy.class);
+  private final Map<OutboundOverflowPolicy, Counter> droppedCounters = new EnumMap<>(OutboundOverflowPolicy.class);
+
+  @Autowired
+  public OutboundQueueMetrics(MeterRegistry meterRegistry) {
+    for (OutboundOverflowPolicy policy : OutboundOverflowPolicy.values()) {
+      overflowCounters.put(policy, Counter.builder("battleship.websocket.outbound.overflow")
+        .description("Frames sent to a connection whose outbound queue was full")
+        .tag("policy", policy.name())
+        .register(meterRegistry));
+      droppedCounters.put(policy, Counter.builder("battleship.websocket.outbound.dropped")
+        .description("Frames dropped from or instead of a full outbound queue")
+        .tag("policy", policy.name())
+        .register(meterRegistry));
+    }
+  }
+
+  public void recordOverflow(OutboundOverflowPolicy policy) {
+    overflowCounters.get(policy).increment();
+  }
+
+  public void recordDropped(OutboundOverflowPolicy policy, int frames) {
+    droppedCounters.get(policy).increment(frames);
+  }
+}
@@ -1,32 +1,98 @@
 package com.example.battleshipbackend.webSocket;
 
+import com.example.battleshipbackend.game.service.GameSessionService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.socket.WebSocketMessage;
-import reactor.core.publisher.FluxSink;
-
-import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.web.reactive.socket.WebSocketSession;
 
+/*
+Sends reach a connection's outbound queue through its ConnectionContext, the set of open queues is only touched when
+a connection opens or closes and is there for the queue depth gauge.
+ */
 @Log4j2
 @Component
 public class WebSocketSinkRegistry {
-  private final ConcurrentHashMap<String, FluxSink<WebSocketMessage>> sinkMap = new ConcurrentHashMap<>();
+  private final Set<OutboundQueue> openQueues = ConcurrentHashMap.newKeySet();
+  private final int queueCapacity;
+  private final OutboundOverflowPolicy overflowPolicy;
+  private final OutboundQueueMetrics outboundQueueMetrics;
+  // Lazy, the game services send through this registry.
+  private final ObjectProvider<GameSessionService> gameSessionService;
 
-  public void register(String sessionId, FluxSink<WebSocketMessage> sink) {
-    sinkMap.put(sessionId, sink);
+  @Autowired
+  public WebSocketSinkRegistry(
+    @Value("${battleship.websocket.outbound.queue-capacity:64}") int queueCapacity,
+    @Value("${battleship.websocket.outbound.overflow-policy:SNAPSHOT}") OutboundOverflowPolicy overflowPolicy,
+    OutboundQueueMetrics outboundQueueMetrics,
+    ObjectProvider<GameSessionService> gameSessionService,
+    MeterRegistry meterRegistry) {
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = overflowPolicy;
+    this.outboundQueueMetrics = outboundQueueMetrics;
+    this.gameSessionService = gameSessionService;
+    Gauge.builder("battleship.websocket.outbound.queued", this, WebSocketSinkRegistry::getQueuedFrames)
+      .description("Frames waiting in outbound queues of all connections")
+      .register(meterRegistry);
+  }
+
+  public OutboundQueue createQueue(WebSocketSession session) {
+    OutboundQueue queue = new OutboundQueue(
+      session, queueCapacity, overflowPolicy, () -> getSnapshot(session), outboundQueueMetrics);
+    openQueues.add(queue);
+    return queue;
+  }
+
+  public void close(WebSocketSession session) {
+    ConnectionContext context = ConnectionContext.of(session);
+    if (context != null && openQueues.remove(context.getOutboundQueue())) {
+      context.getOutboundQueue().complete();
+    }
+  }
+
+  /**
+   * Queues the frame on the session's connection. State frames may be replaced by a snapshot of the game when the
+   * connection falls behind, see OutboundQueue.
+   */
+  public void send(WebSocketSession session, WebSocketMessage message, boolean isStateFrame) {
+    ConnectionContext context = ConnectionContext.of(session);
+    if (context == null) {
+      DataBufferUtils.release(message.getPayload());
+      return;
+    }
+    context.getOutboundQueue().send(message, isStateFrame);
   }
 
-  public void close(String sessionId) {
-    FluxSink<WebSocketMessage> sink = sinkMap.remove(sessionId);
-    if (sink != null) {
-      sink.complete();
+  private double getQueuedFrames() {
+    long queued = 0;
+    for (OutboundQueue queue : openQueues) {
+      queued += queue.size();
     }
+    return queued;
   }
 
-  public void send(String sessionId, WebSocketMessage message) {
-    FluxSink<WebSocketMessage> sink = sinkMap.get(sessionId);
-    if (sink != null) {
-      sink.next(message);
+  private Optional<WebSocketMessage> getSnapshot(WebSocketSession session) {
+    ConnectionContext context = ConnectionContext.of(session);
+    if (context == null) {
+      return Optional.empty();
     }
+    return gameSessionService.getObject().getSnapshotEvent(session).flatMap(event -> {
+      try {
+        return Optional.of(context.getCodec().encode(session, event));
+      } catch (IOException e) {
+        log.error("Could not encode snapshot for session <{}>: {}", session.getId(), e.getMessage());
+        return Optional.empty();
+      }
+    });
   }
 }
@@ -0,0 +1,253 @@
+package com.example.battleshipbackend.webSocket.codec;
+
+import com.example.battleshipbackend.game.dto.ShipDTO;
+import com.example.battleshipbackend.game.dto.request.GameCommand;
+import com.example.battleshipbackend.game.dto.response.GameEvent;
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
+import com.example.battleshipbackend.game.enums.GameCommandType;
+import com.example.battleshipbackend.game.enums.GameEventType;
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.Strike;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+/**
+ * Fixed-layout binary frames. Bytes are unsigned, multi-byte values big-endian, and 0xFF marks an absent byte field.
+ *
+ * <p>Command: type, 16-byte game id (all zero when absent), cell index (row * 10 + column) to strike.
+ * JOIN, JOIN_FRIEND and JOIN_AI append: difficulty, flags (bit 0 delta events), ship count and per ship
+ * its start cell and a byte with the horizontal flag in bit 7 and the length in the low bits.
+ *
+ * <p>Event: type, 16-byte game id, last strike (cell with the hit flag in bit 7), sequence, 2-byte seconds left
+ * (0xFFFF when absent), sunken ship (2 bytes as in commands), then own strikes, opponent strikes, own active ships,
+ * own sunken ships and opponent sunken ships, each as a count followed by the items (0xFF count when absent).
+ */
+@Component
+public class BinaryGameMessageCodec implements GameMessageCodec {
+
+  public static final String SUB_PROTOCOL = "battleship.binary.v1";
+
+  // Wire codes are the indexes in these tables, append only.
+  private static final GameCommandType[] COMMAND_TYPES = {
+    GameCommandType.JOIN,
+    GameCommandType.JOIN_FRIEND,
+    GameCommandType.JOIN_AI,
+    GameCommandType.RECONNECT,
+    GameCommandType.LEAVE,
+    GameCommandType.STRIKE,
+    GameCommandType.SYNC
+  };
+  private static final GameEventType[] EVENT_TYPES = {
+    GameEventType.WAITING_OPPONENT,
+    GameEventType.WAITING_FRIEND,
+    GameEventType.TURN_OWN,
+    GameEventType.TURN_OPPONENT,
+    GameEventType.WON,
+    GameEventType.LOST,
+    GameEventType.OPPONENT_LEFT,
+    GameEventType.TIMEOUT_OWN,
+    GameEventType.TIMEOUT_OPPONENT,
+    GameEventType.NO_GAME,
+    GameEventType.WRONG_GAME_ID
+  };
+  private static final AIDifficultyType[] DIFFICULTIES = {
+    AIDifficultyType.EASY,
+    AIDifficultyType.MEDIUM,
+    AIDifficultyType.NORMAL,
+    AIDifficultyType.HARD
+  };
+
+  private static final int ABSENT = 0xFF;
+  private static final int ABSENT_TIME = 0xFFFF;
+  private static final int GAME_ID_BYTES = 16;
+  private static final int COMMAND_HEADER_BYTES = 1 + GAME_ID_BYTES + 1;
+  private static final int JOIN_TAIL_HEADER_BYTES = 3;
+  private static final int EVENT_HEADER_BYTES = 1 + GAME_ID_BYTES + 1 + 1 + 2 + 2;
+  private static final int HORIZONTAL_FLAG = 0x80;
+  private static final int LENGTH_MASK = 0x7F;
+  private static final int DELTA_EVENTS_FLAG = 0x01;
+
+  @Override
+  public String getSubProtocol() {
+    return SUB_PROTOCOL;
+  }
+
+  @Override
+  public WebSocketMessage.Type getEventFrameType() {
+    return WebSocketMessage.Type.BINARY;
+  }
+
+  @Override
+  public boolean isCommandFrame(WebSocketMessage message) {
+    return message.getType() == WebSocketMessage.Type.BINARY;
+  }
+
+  @Override
+  public GameCommand decode(WebSocketMessage message) throws IOException {
+    DataBuffer payload = message.getPayload();
+    byte[] bytes = new byte[payload.readableByteCount()];
+    payload.read(bytes);
+    return decode(ByteBuffer.wrap(bytes));
+  }
+
+  GameCommand decode(ByteBuffer buffer) throws IOException {
+    if (buffer.remaining() < COMMAND_HEADER_BYTES) {
+      throw new IOException("Binary command shorter than " + COMMAND_HEADER_BYTES + " bytes");
+    }
+    GameCommand command = new GameCommand();
+    int type = Byte.toUnsignedInt(buffer.get());
+    if (type >= COMMAND_TYPES.length) {
+      throw new IOException("Unknown binary command type " + type);
+    }
+    command.setType(COMMAND_TYPES[type]);
+    command.setGameId(readGameId(buffer));
+    int cell = Byte.toUnsignedInt(buffer.get());
+    if (cell != ABSENT) {
+      command.setStrikeRow(cell / Bitboard.BOARD_SIZE);
+      command.setStrikeColumn(cell % Bitboard.BOARD_SIZE);
+    }
+    if (!buffer.hasRemaining()) {
+      return command;
+    }
+    if (buffer.remaining() < JOIN_TAIL_HEADER_BYTES) {
+      throw new IOException("Binary command tail shorter than " + JOIN_TAIL_HEADER_BYTES + " bytes");
+    }
+    int difficulty = Byte.toUnsignedInt(buffer.get());
+    if (difficulty != ABSENT) {
+      if (difficulty >= DIFFICULTIES.length) {
+        throw new IOException("Unknown binary difficulty " + difficulty);
+      }
+      command.setDifficulty(DIFFICULTIES[difficulty]);
+    }
+    command.setIsDeltaEvents((buffer.get() & DELTA_EVENTS_FLAG) != 0);
+    command.setShips(readShips(buffer));
+    if (buffer.hasRemaining()) {
+      throw new IOException("Binary command has " + buffer.remaining() + " bytes after its ships");
+    }
+    return command;
+  }
+
+  @Override
+  public WebSocketMessage encode(WebSocketSession session, GameEvent event) throws IOException {
+    byte[] bytes = encodeToBytes(event);
+    return session.binaryMessage(factory -> factory.wrap(bytes));
+  }
+
+  @Override
+  public byte[] encodeToBytes(GameEvent event) throws IOException {
+    int size = EVENT_HEADER_BYTES
+      + strikesSize(event.getOwnStrikes())
+      + strikesSize(event.getOpponentStrikes())
+      + shipsSize(event.getOwnActiveShips())
+      + shipsSize(event.getOwnSunkenShips())
+      + shipsSize(event.getOpponentSunkenShips());
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    buffer.put(event.getEventType() == null ? (byte) ABSENT : (byte) indexOf(EVENT_TYPES, event.getEventType()));
+    writeGameId(buffer, event.getGameId());
+    buffer.put(event.getLastStrike() == null ? (byte) ABSENT : event.getLastStrike().toByte());
+    buffer.put(event.getSequence() == null ? (byte) ABSENT : (byte) (int) event.getSequence());
+    buffer.putShort(event.getTimeLeft() == null
+      ? (short) ABSENT_TIME
+      : (short) Math.max(0, Math.min(ABSENT_TIME - 1, event.getTimeLeft())));
+    if (event.getSunkenShip() == null) {
+      buffer.put((byte) ABSENT).put((byte) ABSENT);
+    } else {
+      writeShip(buffer, event.getSunkenShip());
+    }
+    writeStrikes(buffer, event.getOwnStrikes());
+    writeStrikes(buffer, event.getOpponentStrikes());
+    writeShips(buffer, event.getOwnActiveShips());
+    writeShips(buffer, event.getOwnSunkenShips());
+    writeShips(buffer, event.getOpponentSunkenShips());
+    return buffer.array();
+  }
+
+  private static String readGameId(ByteBuffer buffer) {
+    long mostSignificantBits = buffer.getLong();
+    long leastSignificantBits = buffer.getLong();
+    if (mostSignificantBits == 0 && leastSignificantBits == 0) {
+      return "";
+    }
+    return new UUID(mostSignificantBits, leastSignificantBits).toString();
+  }
+
+  private static void writeGameId(ByteBuffer buffer, String gameId) {
+    if (gameId == null || gameId.isEmpty()) {
+      buffer.putLong(0L).putLong(0L);
+      return;
+    }
+    UUID uuid = UUID.fromString(gameId);
+    buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+  }
+
+  private static List<ShipDTO> readShips(ByteBuffer buffer) throws IOException {
+    int count = Byte.toUnsignedInt(buffer.get());
+    if (buffer.remaining() < count * 2) {
+      throw new IOException("Binary command announces " + count + " ships but is too short");
+    }
+    List<ShipDTO> ships = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int startCell = Byte.toUnsignedInt(buffer.get());
+      int shape = Byte.toUnsignedInt(buffer.get());
+      ships.add(ShipDTO.builder()
+        .id(String.valueOf(i))
+        .isHorizontal((shape & HORIZONTAL_FLAG) != 0)
+        .length(shape & LENGTH_MASK)
+        .row(startCell / Bitboard.BOARD_SIZE)
+        .column(startCell % Bitboard.BOARD_SIZE)
+        .build());
+    }
+    return ships;
+  }
+
+  private static int strikesSize(List<Strike> strikes) {
+    return 1 + (strikes == null ? 0 : strikes.size());
+  }
+
+  private static void writeStrikes(ByteBuffer buffer, List<Strike> strikes) {
+    if (strikes == null) {
+      buffer.put((byte) ABSENT);
+      return;
+    }
+    buffer.put((byte) strikes.size());
+    for (int i = 0; i < strikes.size(); i++) {
+      buffer.put(strikes.get(i).toByte());
+    }
+  }
+
+  private static int shipsSize(List<ShipDTO> ships) {
+    return 1 + (ships == null ? 0 : ships.size() * 2);
+  }
+
+  private static void writeShips(ByteBuffer buffer, List<ShipDTO> ships) {
+    if (ships == null) {
+      buffer.put((byte) ABSENT);
+      return;
+    }
+    buffer.put((byte) ships.size());
+    for (ShipDTO ship : ships) {
+      writeShip(buffer, ship);
+    }
+  }
+
+  private static void writeShip(ByteBuffer buffer, ShipDTO ship) {
+    buffer.put((byte) Bitboard.toCell(ship.getRow(), ship.getColumn()));
+    buffer.put((byte) ((Boolean.TRUE.equals(ship.getIsHorizontal()) ? HORIZONTAL_FLAG : 0) | ship.getLength()));
+  }
+
+  private static <T> int indexOf(T[] table, T value) throws IOException {
+    for (int i = 0; i < table.length; i++) {
+      if (table[i] == value) {
+        return i;
+      }
+    }
+    throw new IOException("No binary code for " + value);
+  }
+}
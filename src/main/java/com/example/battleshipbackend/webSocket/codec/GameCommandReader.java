@@ -0,0 +1,179 @@
+package com.example.battleshipbackend.webSocket.codec;
+
+import com.example.battleshipbackend.game.dto.ShipDTO;
+import com.example.battleshipbackend.game.dto.request.GameCommand;
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
+import com.example.battleshipbackend.game.enums.GameCommandType;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.io.buffer.DataBuffer;
+
+/**
+ * Reads a GameCommand in one pass over the frame bytes with a streaming parser, without decoding the payload to a
+ * String or going through data binding. Unknown fields are skipped and scalars coerced the way the default ObjectMapper
+ * setup accepts them.
+ */
+final class GameCommandReader {
+
+  private final JsonFactory jsonFactory;
+
+  GameCommandReader(JsonFactory jsonFactory) {
+    this.jsonFactory = jsonFactory;
+  }
+
+  GameCommand read(DataBuffer payload) throws IOException {
+    try (JsonParser parser = jsonFactory.createParser(payload.asInputStream())) {
+      expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+      GameCommand command = new GameCommand();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken token = parser.nextToken();
+        switch (field) {
+          case "type" -> command.setType(readEnum(parser, token, GameCommandType::fromValue));
+          case "gameId" -> command.setGameId(readString(parser, token));
+          case "strikeRow" -> command.setStrikeRow(readInteger(parser, token));
+          case "strikeColumn" -> command.setStrikeColumn(readInteger(parser, token));
+          case "ships" -> command.setShips(readShips(parser, token));
+          case "difficulty" -> command.setDifficulty(readEnum(parser, token, AIDifficultyType::fromValue));
+          case "isDeltaEvents" -> command.setIsDeltaEvents(readBoolean(parser, token));
+          default -> parser.skipChildren();
+        }
+      }
+      expect(parser, parser.currentToken(), JsonToken.END_OBJECT);
+      return command;
+    }
+  }
+
+  private static List<ShipDTO> readShips(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    expect(parser, token, JsonToken.START_ARRAY);
+    List<ShipDTO> ships = new ArrayList<>();
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+      ships.add(readShip(parser, token));
+    }
+    return ships;
+  }
+
+  private static ShipDTO readShip(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    expect(parser, token, JsonToken.START_OBJECT);
+    ShipDTO.ShipDTOBuilder ship = ShipDTO.builder();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      token = parser.nextToken();
+      switch (field) {
+        case "id" -> ship.id(readString(parser, token));
+        case "isHorizontal" -> ship.isHorizontal(readBoolean(parser, token));
+        case "length" -> ship.length(readInt(parser, token));
+        case "row" -> ship.row(readInt(parser, token));
+        case "column" -> ship.column(readInt(parser, token));
+        default -> parser.skipChildren();
+      }
+    }
+    return ship.build();
+  }
+
+  private static String readString(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (!token.isScalarValue()) {
+      throw new JsonParseException(parser, "Expected a string for '" + parser.currentName() + "'");
+    }
+    return parser.getText();
+  }
+
+  private static Integer readInteger(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_STRING) {
+      String text = readCoercibleText(parser);
+      return text == null ? null : parseInt(parser, text);
+    }
+    return token == JsonToken.VALUE_NULL ? null : readInt(parser, token);
+  }
+
+  /* Coerces like Jackson's defaults: floats are truncated and numeric strings parsed, null and blank read as 0 */
+  private static int readInt(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return 0;
+    }
+    if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+      return parser.getIntValue();
+    }
+    if (token == JsonToken.VALUE_STRING) {
+      String text = readCoercibleText(parser);
+      return text == null ? 0 : parseInt(parser, text);
+    }
+    throw new JsonParseException(parser, "Expected an integer for '" + parser.currentName() + "'");
+  }
+
+  private static int parseInt(JsonParser parser, String text) throws JsonParseException {
+    try {
+      return Integer.parseInt(text);
+    } catch (NumberFormatException e) {
+      throw new JsonParseException(parser, "Expected an integer for '" + parser.currentName() + "' but got '" + text + "'");
+    }
+  }
+
+  private static Boolean readBoolean(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (token.isBoolean()) {
+      return token == JsonToken.VALUE_TRUE;
+    }
+    if (token == JsonToken.VALUE_NUMBER_INT) {
+      return parser.getIntValue() != 0;
+    }
+    if (token == JsonToken.VALUE_STRING) {
+      String text = readCoercibleText(parser);
+      if (text == null) {
+        return null;
+      }
+      if (text.equalsIgnoreCase("true")) {
+        return Boolean.TRUE;
+      }
+      if (text.equalsIgnoreCase("false")) {
+        return Boolean.FALSE;
+      }
+    }
+    throw new JsonParseException(parser, "Expected a boolean for '" + parser.currentName() + "'");
+  }
+
+  /* Trimmed string value, null for the blank and "null" strings Jackson reads as empty */
+  private static String readCoercibleText(JsonParser parser) throws IOException {
+    String text = parser.getText().trim();
+    return text.isEmpty() || text.equals("null") ? null : text;
+  }
+
+  private static <T> T readEnum(JsonParser parser, JsonToken token, EnumParser<T> enumParser) throws IOException {
+    String value = readString(parser, token);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return enumParser.parse(value);
+    } catch (IllegalArgumentException e) {
+      throw new JsonParseException(parser, e.getMessage());
+    }
+  }
+
+  private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+    if (actual != expected) {
+      throw new JsonParseException(parser, "Expected " + expected + " but got " + actual);
+    }
+  }
+
+  @FunctionalInterface
+  private interface EnumParser<T> {
+    T parse(String value);
+  }
+}
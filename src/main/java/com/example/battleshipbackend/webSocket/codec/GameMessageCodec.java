@@ -0,0 +1,30 @@
+package com.example.battleshipbackend.webSocket.codec;
+
+import com.example.battleshipbackend.game.dto.request.GameCommand;
+import com.example.battleshipbackend.game.dto.response.GameEvent;
+import java.io.IOException;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+/**
+ * Wire format of commands and events for one WebSocket subprotocol.
+ */
+public interface GameMessageCodec {
+  String getSubProtocol();
+
+  /**
+   * Whether the frame carries a command in this format, other frames are only checked for text pings.
+   */
+  boolean isCommandFrame(WebSocketMessage message);
+
+  GameCommand decode(WebSocketMessage message) throws IOException;
+
+  WebSocketMessage encode(WebSocketSession session, GameEvent event) throws IOException;
+
+  /**
+   * Encoded frame payload on the heap, for frames built once and sent many times.
+   */
+  byte[] encodeToBytes(GameEvent event) throws IOException;
+
+  WebSocketMessage.Type getEventFrameType();
+}
@@ -0,0 +1,41 @@
+package com.example.battleshipbackend.webSocket.codec;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+@Component
+public class GameMessageCodecRegistry {
+
+  private final JsonGameMessageCodec jsonGameMessageCodec;
+  private final BinaryGameMessageCodec binaryGameMessageCodec;
+
+  @Autowired
+  public GameMessageCodecRegistry(JsonGameMessageCodec jsonGameMessageCodec, BinaryGameMessageCodec binaryGameMessageCodec) {
+    this.jsonGameMessageCodec = jsonGameMessageCodec;
+    this.binaryGameMessageCodec = binaryGameMessageCodec;
+  }
+
+  /**
+   * Subprotocols offered at handshake, the client picks one with the Sec-WebSocket-Protocol header.
+   */
+  public List<String> getSubProtocols() {
+    return List.of(binaryGameMessageCodec.getSubProtocol(), jsonGameMessageCodec.getSubProtocol());
+  }
+
+  public List<GameMessageCodec> getCodecs() {
+    return List.of(binaryGameMessageCodec, jsonGameMessageCodec);
+  }
+
+  /**
+   * Codec for the subprotocol agreed at handshake, JSON when the client did not ask for one.
+   */
+  public GameMessageCodec forSession(WebSocketSession session) {
+    String subProtocol = session.getHandshakeInfo().getSubProtocol();
+    if (binaryGameMessageCodec.getSubProtocol().equals(subProtocol)) {
+      return binaryGameMessageCodec;
+    }
+    return jsonGameMessageCodec;
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.battleshipbackend.webSocket.codec;
+
+import com.example.battleshipbackend.game.dto.request.GameCommand;
+import com.example.battleshipbackend.game.dto.response.GameEvent;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+/**
+ * JSON text frames, the default when a client does not ask for a subprotocol.
+ */
+@Component
+public class JsonGameMessageCodec implements GameMessageCodec {
+
+  public static final String SUB_PROTOCOL = "battleship.json.v1";
+
+  // Fits a full event mid game, the buffer grows when a larger event is written.
+  private static final int INITIAL_BUFFER_CAPACITY = 1024;
+
+  private final ObjectMapper objectMapper;
+  private final GameCommandReader gameCommandReader;
+
+  @Autowired
+  public JsonGameMessageCodec(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.gameCommandReader = new GameCommandReader(objectMapper.getFactory());
+  }
+
+  @Override
+  public String getSubProtocol() {
+    return SUB_PROTOCOL;
+  }
+
+  @Override
+  public WebSocketMessage.Type getEventFrameType() {
+    return WebSocketMessage.Type.TEXT;
+  }
+
+  @Override
+  public boolean isCommandFrame(WebSocketMessage message) {
+    return message.getType() == WebSocketMessage.Type.TEXT;
+  }
+
+  @Override
+  public GameCommand decode(WebSocketMessage message) throws IOException {
+    return gameCommandReader.read(message.getPayload());
+  }
+
+  @Override
+  public WebSocketMessage encode(WebSocketSession session, GameEvent event) throws IOException {
+    return new WebSocketMessage(WebSocketMessage.Type.TEXT, write(session.bufferFactory(), event));
+  }
+
+  @Override
+  public byte[] encodeToBytes(GameEvent event) throws IOException {
+    return objectMapper.writeValueAsBytes(event);
+  }
+
+  /**
+   * Streams the event as UTF-8 JSON into a buffer from the factory, the caller owns the returned buffer.
+   */
+  public DataBuffer write(DataBufferFactory bufferFactory, GameEvent event) throws IOException {
+    DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_CAPACITY);
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer.asOutputStream())) {
+      objectMapper.writeValue(generator, event);
+      return buffer;
+    } catch (IOException | RuntimeException e) {
+      DataBufferUtils.release(buffer);
+      throw e;
+    }
+  }
+}
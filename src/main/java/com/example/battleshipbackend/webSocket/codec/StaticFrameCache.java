@@ -0,0 +1,70 @@
+package com.example.battleshipbackend.webSocket.codec;
+
+import com.example.battleshipbackend.constants.TextMessages;
+import com.example.battleshipbackend.game.builder.GameEventBuilder;
+import com.example.battleshipbackend.game.dto.response.GameEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+/**
+ * Frame payloads for the shared events without game data and for the fixed text messages, encoded once at startup for
+ * every codec and shared by all sessions. Events are looked up by identity, so an event built anywhere else is always
+ * encoded in full. Sending a cached one only wraps the cached bytes in a buffer.
+ */
+@Component
+public class StaticFrameCache {
+
+  private final Map<GameMessageCodec, Map<GameEvent, byte[]>> eventFramesByCodec = new IdentityHashMap<>();
+  private final Map<String, byte[]> textFrames = new HashMap<>();
+
+  @Autowired
+  public StaticFrameCache(GameMessageCodecRegistry gameMessageCodecRegistry, GameEventBuilder gameEventBuilder) {
+    for (GameMessageCodec codec : gameMessageCodecRegistry.getCodecs()) {
+      Map<GameEvent, byte[]> frames = new IdentityHashMap<>();
+      for (GameEvent event : gameEventBuilder.getStaticEvents()) {
+        frames.put(event, encode(codec, event));
+      }
+      eventFramesByCodec.put(codec, frames);
+    }
+    for (String text : TextMessages.VALUES) {
+      textFrames.put(text, text.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * Cached frame when the event is one of the GameEventBuilder's shared static events.
+   */
+  public Optional<WebSocketMessage> getEventFrame(WebSocketSession session, GameMessageCodec codec, GameEvent event) {
+    Map<GameEvent, byte[]> frames = eventFramesByCodec.get(codec);
+    byte[] bytes = frames == null ? null : frames.get(event);
+    if (bytes == null) {
+      return Optional.empty();
+    }
+    return Optional.of(new WebSocketMessage(codec.getEventFrameType(), session.bufferFactory().wrap(bytes)));
+  }
+
+  public Optional<WebSocketMessage> getTextFrame(WebSocketSession session, String text) {
+    byte[] bytes = textFrames.get(text);
+    if (bytes == null) {
+      return Optional.empty();
+    }
+    return Optional.of(new WebSocketMessage(WebSocketMessage.Type.TEXT, session.bufferFactory().wrap(bytes)));
+  }
+
+  private static byte[] encode(GameMessageCodec codec, GameEvent event) {
+    try {
+      return codec.encodeToBytes(event);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not encode static " + event.getEventType() + " event", e);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.example.battleshipbackend.webSocket.compression;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+
+/**
+ * Pair of outbound handlers placed on both sides of the permessage-deflate encoder of one channel. Frames are encoded
+ * synchronously on the event loop, so a frame passes the outer handler, the encoder and the inner handler in one call
+ * and plain fields are enough to carry its size and start time across. Frames are only measured once the upgrade
+ * response that passed the inner handler accepted an extension.
+ */
+final class DeflateProbe {
+
+  private static final int SWITCHING_PROTOCOLS = 101;
+
+  private final WebSocketCompressionMetrics metrics;
+  private final ChannelOutboundHandlerAdapter outerHandler = new Outer();
+  private final ChannelOutboundHandlerAdapter innerHandler = new Inner();
+  private boolean isNegotiated;
+  private int originalBytes = -1;
+  private long startNanos;
+  private boolean isCompressed;
+
+  DeflateProbe(WebSocketCompressionMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  ChannelOutboundHandlerAdapter getOuterHandler() {
+    return outerHandler;
+  }
+
+  ChannelOutboundHandlerAdapter getInnerHandler() {
+    return innerHandler;
+  }
+
+  private final class Outer extends ChannelOutboundHandlerAdapter {
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+      if (!isNegotiated || !(msg instanceof TextWebSocketFrame || msg instanceof BinaryWebSocketFrame)) {
+        ctx.write(msg, promise);
+        return;
+      }
+      originalBytes = ((WebSocketFrame) msg).content().readableBytes();
+      isCompressed = false;
+      startNanos = System.nanoTime();
+      try {
+        ctx.write(msg, promise);
+      } finally {
+        if (!isCompressed) {
+          metrics.recordSkipped();
+        }
+        originalBytes = -1;
+      }
+    }
+  }
+
+  private final class Inner extends ChannelOutboundHandlerAdapter {
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+      if (msg instanceof HttpResponse response && response.status().code() == SWITCHING_PROTOCOLS
+        && response.headers().contains(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS)) {
+        isNegotiated = true;
+      } else if (originalBytes >= 0 && msg instanceof WebSocketFrame frame && (frame.rsv() & WebSocketExtension.RSV1) != 0) {
+        isCompressed = true;
+        metrics.recordCompressed(originalBytes, frame.content().readableBytes(), System.nanoTime() - startNanos);
+      }
+      ctx.write(msg, promise);
+    }
+  }
+}
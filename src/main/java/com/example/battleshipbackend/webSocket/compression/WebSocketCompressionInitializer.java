@@ -0,0 +1,76 @@
+package com.example.battleshipbackend.webSocket.compression;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionFilter;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionFilterProvider;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandler;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.netty.NettyPipeline;
+
+/*
+Negotiates permessage-deflate (RFC 7692) with clients that offer it in Sec-WebSocket-Extensions. The extension handler
+sits right after the HTTP codec, answers the upgrade and then swaps itself for the deflate encoder and decoder, between
+the two probe handlers. Outgoing frames smaller than the threshold are sent as they are: small turn events do not
+shrink enough to be worth the CPU, while reconnect and sync events with full strike histories do.
+ */
+@Log4j2
+@Component
+public class WebSocketCompressionInitializer {
+
+  private static final String PROBE_INNER = "battleship.deflateProbeInner";
+  private static final String EXTENSION_HANDLER = "battleship.deflateExtension";
+  private static final String PROBE_OUTER = "battleship.deflateProbeOuter";
+  private static final int MAX_WINDOW_SIZE = 15;
+
+  private final boolean isEnabled;
+  private final int compressionLevel;
+  private final int thresholdBytes;
+  private final WebSocketCompressionMetrics metrics;
+
+  @Autowired
+  public WebSocketCompressionInitializer(
+    @Value("${battleship.websocket.compression.enabled:true}") boolean isEnabled,
+    @Value("${battleship.websocket.compression.level:6}") int compressionLevel,
+    @Value("${battleship.websocket.compression.threshold-bytes:1024}") int thresholdBytes,
+    WebSocketCompressionMetrics metrics) {
+    this.isEnabled = isEnabled;
+    this.compressionLevel = compressionLevel;
+    this.thresholdBytes = thresholdBytes;
+    this.metrics = metrics;
+    log.info("WebSocket compression {}, level {}, threshold {} bytes", isEnabled ? "enabled" : "disabled",
+      compressionLevel, thresholdBytes);
+  }
+
+  public boolean isEnabled() {
+    return isEnabled;
+  }
+
+  public void install(Channel channel) {
+    ChannelPipeline pipeline = channel.pipeline();
+    if (pipeline.get(NettyPipeline.HttpCodec) == null) {
+      return;
+    }
+    DeflateProbe probe = new DeflateProbe(metrics);
+    WebSocketExtensionFilter encoderFilter = frame -> frame.content().readableBytes() < thresholdBytes;
+    WebSocketExtensionFilterProvider filterProvider = new WebSocketExtensionFilterProvider() {
+      @Override
+      public WebSocketExtensionFilter encoderFilter() {
+        return encoderFilter;
+      }
+
+      @Override
+      public WebSocketExtensionFilter decoderFilter() {
+        return WebSocketExtensionFilter.NEVER_SKIP;
+      }
+    };
+    pipeline.addAfter(NettyPipeline.HttpCodec, PROBE_INNER, probe.getInnerHandler());
+    pipeline.addAfter(PROBE_INNER, EXTENSION_HANDLER, new WebSocketServerExtensionHandler(
+      new PerMessageDeflateServerExtensionHandshaker(compressionLevel, false, MAX_WINDOW_SIZE, false, false, filterProvider)));
+    pipeline.addAfter(EXTENSION_HANDLER, PROBE_OUTER, probe.getOuterHandler());
+  }
+}
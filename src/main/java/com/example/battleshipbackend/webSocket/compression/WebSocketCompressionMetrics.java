@@ -0,0 +1,59 @@
+package com.example.battleshipbackend.webSocket.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the effect and cost of permessage-deflate on outgoing frames under battleship.websocket.deflate.*:
+ * compressed to original size ratio, time spent compressing on the event loop and bytes before and after.
+ */
+@Component
+public class WebSocketCompressionMetrics {
+
+  private final DistributionSummary ratioSummary;
+  private final Timer cpuTimer;
+  private final Counter originalBytesCounter;
+  private final Counter compressedBytesCounter;
+  private final Counter skippedFramesCounter;
+
+  @Autowired
+  public WebSocketCompressionMetrics(MeterRegistry meterRegistry) {
+    this.ratioSummary = DistributionSummary.builder("battleship.websocket.deflate.ratio")
+      .description("Compressed size divided by original size of a compressed frame")
+      .register(meterRegistry);
+    this.cpuTimer = Timer.builder("battleship.websocket.deflate.cpu")
+      .description("Event loop time spent compressing a frame")
+      .register(meterRegistry);
+    this.originalBytesCounter = Counter.builder("battleship.websocket.deflate.bytes")
+      .description("Payload bytes of compressed frames")
+      .baseUnit("bytes")
+      .tag("stage", "original")
+      .register(meterRegistry);
+    this.compressedBytesCounter = Counter.builder("battleship.websocket.deflate.bytes")
+      .description("Payload bytes of compressed frames")
+      .baseUnit("bytes")
+      .tag("stage", "compressed")
+      .register(meterRegistry);
+    this.skippedFramesCounter = Counter.builder("battleship.websocket.deflate.skipped")
+      .description("Frames sent uncompressed on a compressing connection, mostly below the size threshold")
+      .register(meterRegistry);
+  }
+
+  public void recordCompressed(int originalBytes, int compressedBytes, long nanos) {
+    if (originalBytes > 0) {
+      ratioSummary.record((double) compressedBytes / originalBytes);
+    }
+    cpuTimer.record(nanos, TimeUnit.NANOSECONDS);
+    originalBytesCounter.increment(originalBytes);
+    compressedBytesCounter.increment(compressedBytes);
+  }
+
+  public void recordSkipped() {
+    skippedFramesCounter.increment();
+  }
+}
@@ -0,0 +1,109 @@
+package com.example.battleshipbackend.webSocket.heartbeat;
+
+import com.example.battleshipbackend.constants.TextMessages;
+import io.micrometer.core.instrument.Counter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.websocketx.PingWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.PongWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.ReferenceCountUtil;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Heartbeat of one channel, behind an IdleStateHandler that reports reader idleness. Stays passive until the upgrade
+ * response has been written, so plain HTTP requests on the channel are left to the server's own idle timeout. All
+ * state is only touched on the channel's event loop.
+ */
+@Log4j2
+final class WebSocketHeartbeatHandler extends ChannelDuplexHandler {
+
+  private static final int SWITCHING_PROTOCOLS = 101;
+  private static final byte[] PING = {'p', 'i', 'n', 'g'};
+  private static final ByteBuf PONG = Unpooled.unreleasableBuffer(
+    Unpooled.copiedBuffer(TextMessages.PONG, StandardCharsets.UTF_8));
+
+  private final int maxMissedPongs;
+  private final Counter deadPeerCounter;
+  private boolean isUpgraded;
+  private int unansweredPings;
+
+  WebSocketHeartbeatHandler(int maxMissedPongs, Counter deadPeerCounter) {
+    this.maxMissedPongs = maxMissedPongs;
+    this.deadPeerCounter = deadPeerCounter;
+  }
+
+  @Override
+  public void channelRead(ChannelHandlerContext ctx, Object msg) {
+    if (!isUpgraded) {
+      ctx.fireChannelRead(msg);
+      return;
+    }
+    unansweredPings = 0;
+    if (msg instanceof PongWebSocketFrame) {
+      ReferenceCountUtil.release(msg);
+      return;
+    }
+    if (msg instanceof TextWebSocketFrame frame && frame.isFinalFragment() && isPing(frame.content())) {
+      ReferenceCountUtil.release(msg);
+      ctx.writeAndFlush(new TextWebSocketFrame(PONG.duplicate()));
+      return;
+    }
+    ctx.fireChannelRead(msg);
+  }
+
+  @Override
+  public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+    if (!(evt instanceof IdleStateEvent event) || event.state() != IdleState.READER_IDLE) {
+      ctx.fireUserEventTriggered(evt);
+      return;
+    }
+    if (!isUpgraded) {
+      return;
+    }
+    if (unansweredPings >= maxMissedPongs) {
+      log.info("Closing WebSocket channel <{}> after {} unanswered pings", ctx.channel().id(), unansweredPings);
+      deadPeerCounter.increment();
+      ctx.close();
+      return;
+    }
+    unansweredPings++;
+    ctx.writeAndFlush(new PingWebSocketFrame());
+  }
+
+  @Override
+  public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+    if (msg instanceof HttpResponse response && response.status().code() == SWITCHING_PROTOCOLS) {
+      isUpgraded = true;
+    }
+    ctx.write(msg, promise);
+  }
+
+  /* Matches "ping" ignoring case and surrounding whitespace, the keep alive older clients send as a text frame */
+  private static boolean isPing(ByteBuf content) {
+    int start = content.readerIndex();
+    int end = content.writerIndex();
+    while (start < end && (content.getByte(start) & 0xFF) <= ' ') {
+      start++;
+    }
+    while (end > start && (content.getByte(end - 1) & 0xFF) <= ' ') {
+      end--;
+    }
+    if (end - start != PING.length) {
+      return false;
+    }
+    for (int i = 0; i < PING.length; i++) {
+      if ((content.getByte(start + i) | 0x20) != PING[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.battleshipbackend.webSocket.heartbeat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.timeout.IdleStateHandler;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.netty.NettyPipeline;
+
+/*
+Keeps WebSocket connections alive and detects dead peers in the Netty pipeline, next to the frame codec. When nothing
+has been read from a connection for the interval the server sends a ping control frame, and when the configured number
+of pings in a row go unanswered the channel is closed, which completes the session and runs handleClosedSession.
+Pongs and the clients' text pings are answered and dropped there, so heartbeats never reach the WebSocketHandler.
+ */
+@Log4j2
+@Component
+public class WebSocketHeartbeatInitializer {
+
+  private static final String IDLE_STATE_HANDLER = "battleship.heartbeatIdleState";
+  private static final String HEARTBEAT_HANDLER = "battleship.heartbeat";
+
+  private final int intervalSeconds;
+  private final int maxMissedPongs;
+  private final Counter deadPeerCounter;
+
+  @Autowired
+  public WebSocketHeartbeatInitializer(
+    @Value("${battleship.websocket.heartbeat.interval-seconds:20}") int intervalSeconds,
+    @Value("${battleship.websocket.heartbeat.max-missed-pongs:2}") int maxMissedPongs,
+    MeterRegistry meterRegistry) {
+    this.intervalSeconds = intervalSeconds;
+    this.maxMissedPongs = maxMissedPongs;
+    this.deadPeerCounter = Counter.builder("battleship.websocket.heartbeat.dead-peers")
+      .description("WebSocket connections closed after unanswered pings")
+      .register(meterRegistry);
+    log.info("WebSocket heartbeat {}", intervalSeconds > 0
+      ? "every " + intervalSeconds + " s of silence, closing after " + maxMissedPongs + " missed pongs"
+      : "disabled");
+  }
+
+  public void install(Channel channel) {
+    ChannelPipeline pipeline = channel.pipeline();
+    if (pipeline.get(NettyPipeline.HttpCodec) == null) {
+      return;
+    }
+    pipeline.addAfter(NettyPipeline.HttpCodec, IDLE_STATE_HANDLER,
+      new IdleStateHandler(intervalSeconds, 0, 0, TimeUnit.SECONDS));
+    pipeline.addAfter(IDLE_STATE_HANDLER, HEARTBEAT_HANDLER, new WebSocketHeartbeatHandler(maxMissedPongs, deadPeerCounter));
+  }
+}
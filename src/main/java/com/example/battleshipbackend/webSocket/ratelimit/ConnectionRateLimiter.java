@@ -0,0 +1,31 @@
+package com.example.battleshipbackend.webSocket.ratelimit;
+
+import com.example.battleshipbackend.game.enums.GameCommandType;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Rate limit state of one connection, created with the connection and dropped with it.
+ */
+public class ConnectionRateLimiter {
+
+  private final TokenBucket messageBucket;
+  private final Map<GameCommandType, TokenBucket> commandBuckets = new EnumMap<>(GameCommandType.class);
+
+  public ConnectionRateLimiter(RateLimitProperties properties) {
+    long nowNanos = System.nanoTime();
+    RateLimitProperties.Limit messages = properties.getMessages();
+    this.messageBucket = new TokenBucket(messages.getCapacity(), messages.getRefillPerSecond(), nowNanos);
+    properties.getCommands().forEach((type, limit) ->
+      commandBuckets.put(type, new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), nowNanos)));
+  }
+
+  public boolean tryAcquireMessage() {
+    return messageBucket.tryAcquire(System.nanoTime());
+  }
+
+  public boolean tryAcquireCommand(GameCommandType type) {
+    TokenBucket bucket = commandBuckets.get(type);
+    return bucket == null || bucket.tryAcquire(System.nanoTime());
+  }
+}
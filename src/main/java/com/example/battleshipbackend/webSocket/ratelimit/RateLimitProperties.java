@@ -0,0 +1,34 @@
+package com.example.battleshipbackend.webSocket.ratelimit;
+
+import com.example.battleshipbackend.game.enums.GameCommandType;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-connection limits: one bucket for all inbound frames, and optionally one per command type on top of it.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "battleship.websocket.rate-limit")
+public class RateLimitProperties {
+
+  private Limit messages = new Limit(20, 4);
+  private Map<GameCommandType, Limit> commands = new EnumMap<>(GameCommandType.class);
+
+  @Data
+  public static class Limit {
+    private int capacity;
+    private double refillPerSecond;
+
+    public Limit() {
+    }
+
+    public Limit(int capacity, double refillPerSecond) {
+      this.capacity = capacity;
+      this.refillPerSecond = refillPerSecond;
+    }
+  }
+}
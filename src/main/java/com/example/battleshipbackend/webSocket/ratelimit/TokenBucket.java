@@ -0,0 +1,34 @@
+package com.example.battleshipbackend.webSocket.ratelimit;
+
+/**
+ * Token bucket refilled lazily from the caller's monotonic clock: tokens owed since the last call are added when a
+ * token is asked for, so an idle bucket costs nothing. Not thread-safe, a bucket belongs to one connection whose
+ * inbound frames are handled one at a time.
+ */
+public class TokenBucket {
+
+  private final double capacity;
+  private final double tokensPerNano;
+  private double tokens;
+  private long lastRefillNanos;
+
+  public TokenBucket(int capacity, double tokensPerSecond, long nowNanos) {
+    this.capacity = capacity;
+    this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+    this.tokens = capacity;
+    this.lastRefillNanos = nowNanos;
+  }
+
+  public boolean tryAcquire(long nowNanos) {
+    long elapsedNanos = nowNanos - lastRefillNanos;
+    if (elapsedNanos > 0) {
+      tokens = Math.min(capacity, tokens + elapsedNanos * tokensPerNano);
+      lastRefillNanos = nowNanos;
+    }
+    if (tokens < 1) {
+      return false;
+    }
+    tokens--;
+    return true;
+  }
+}
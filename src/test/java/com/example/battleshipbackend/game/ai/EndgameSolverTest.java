@@ -0,0 +1,80 @@
+package com.example.battleshipbackend.game.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.battleshipbackend.game.model.Bitboard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EndgameSolverTest {
+
+  private final EndgameSolver solver = new EndgameSolver(2, 2_000_000, 150);
+
+  @AfterEach
+  void shutdown() {
+    solver.shutdown();
+  }
+
+  /*
+  Five open cells in a row and a 3-ship and a 2-ship afloat: 3-ship on 0..2 with the 2-ship on 3..4, or 3-ship on 2..4
+  with the 2-ship on 0..1.
+   */
+  @Test
+  void countsEveryLayoutOfAnOpenRow() {
+    long[] counts = solver.countLayouts(observationOf(cells(0, 1, 2, 3, 4), new Bitboard(), 3, 2));
+
+    assertThat(counts).containsExactly(expected(0, 1, 1, 1, 2, 2, 3, 1, 4, 1));
+  }
+
+  /*
+  Two ships of equal length are interchangeable, so four open cells hold exactly one layout of two 2-ships.
+   */
+  @Test
+  void countsLayoutsOfEqualShipsOnce() {
+    long[] counts = solver.countLayouts(observationOf(cells(0, 1, 2, 3), new Bitboard(), 2, 2));
+
+    assertThat(counts).containsExactly(expected(0, 1, 1, 1, 2, 1, 3, 1));
+  }
+
+  /*
+  Rows 0 and 2 are open in columns 0 to 2, with live hits at (0, 0) and (0, 1) and a 3-ship and a 2-ship afloat.
+  The 3-ship lies over both hits with the 2-ship on either half of row 2. The 2-ship on the hits alone with the 3-ship
+  in row 2 is no consistent layout, that ship would have been reported sunk.
+   */
+  @Test
+  void skipsLayoutsWithAShipOnLiveHitsAlone() {
+    long[] counts = solver.countLayouts(observationOf(cells(0, 1, 2, 20, 21, 22), cells(0, 1), 3, 2));
+
+    assertThat(counts).containsExactly(expected(2, 2, 20, 1, 21, 2, 22, 1));
+  }
+
+  @Test
+  void countsNoLayoutWhenTheOnlyShipLeftWouldLieOnLiveHitsAlone() {
+    long[] counts = solver.countLayouts(observationOf(cells(0, 1, 2), cells(0, 1), 2));
+
+    assertThat(counts).containsOnly(0L);
+  }
+
+  private static BoardObservation observationOf(Bitboard open, Bitboard liveHits, int... remainingLengths) {
+    Bitboard blocked = new Bitboard(~open.getLow(), ~open.getHigh() & ((1L << (Bitboard.CELL_COUNT - 64)) - 1));
+    Bitboard struck = new Bitboard(blocked.getLow() | liveHits.getLow(), blocked.getHigh() | liveHits.getHigh());
+    return new BoardObservation(struck, blocked, liveHits, remainingLengths);
+  }
+
+  private static Bitboard cells(int... cells) {
+    Bitboard bitboard = new Bitboard();
+    for (int cell : cells) {
+      bitboard.add(cell);
+    }
+    return bitboard;
+  }
+
+  /* Counts per cell from cell and count pairs, every other cell counted in no layout */
+  private static long[] expected(int... cellCounts) {
+    long[] counts = new long[Bitboard.CELL_COUNT];
+    for (int i = 0; i < cellCounts.length; i += 2) {
+      counts[cellCounts[i]] = cellCounts[i + 1];
+    }
+    return counts;
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.battleshipbackend.game.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.battleshipbackend.game.model.Ship;
+import com.example.battleshipbackend.game.model.ShipPlacements;
+import com.example.battleshipbackend.game.service.GameRuleServiceImpl;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FleetGeneratorTest {
+
+  private static final int FLEETS = 10_000;
+
+  private final GameRuleServiceImpl gameRuleService = new GameRuleServiceImpl();
+
+  @Test
+  void generatesOnlyLegalFleets() {
+    for (int i = 0; i < FLEETS; i++) {
+      List<Ship> fleet = FleetGenerator.randomFleet();
+
+      assertThat(gameRuleService.isShipsValid(fleet)).as("fleet %s", fleet).isTrue();
+    }
+  }
+
+  @Test
+  void generatesTheStandardShipLengths() {
+    List<Ship> fleet = FleetGenerator.randomFleet();
+
+    assertThat(fleet).extracting(ship -> ship.getCoordinates().size())
+      .containsExactly(Arrays.stream(ShipPlacements.FLEET_SHIP_LENGTHS).boxed().toArray(Integer[]::new));
+  }
+}
@@ -0,0 +1,92 @@
+package com.example.battleshipbackend.game.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.battleshipbackend.game.model.Bitboard;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class FleetSamplerTest {
+
+  private static final int SAMPLES = 2_000;
+
+  /*
+  Only rows 0 and 2 are open in columns 0 to 2, with live hits at (0, 0) and (0, 1) and a 3-ship and a 2-ship afloat.
+  The 3-ship must lie over both hits and the 2-ship in row 2. Laying the 2-ship on the hits alone and the 3-ship in
+  row 2 is no consistent layout, that ship would have been reported sunk.
+   */
+  @Test
+  void samplesNeverPlaceAShipOnLiveHitsAlone() {
+    Bitboard open = cells(0, 1, 2, 20, 21, 22);
+    Bitboard liveHits = cells(0, 1);
+    FleetSampler sampler = new FleetSampler(observationOf(open, liveHits, 3, 2));
+
+    sampler.sample(SAMPLES, Long.MAX_VALUE, new Random(42));
+
+    int[] counts = sampler.getCounts();
+    int accepted = sampler.getAcceptedSamples();
+    assertThat(accepted).isPositive();
+    assertThat(counts[2]).isEqualTo(accepted);
+    assertThat(counts[21]).isEqualTo(accepted);
+    assertThat(counts[20] + counts[22]).isEqualTo(accepted);
+    assertThat(counts[20]).isPositive();
+    assertThat(counts[22]).isPositive();
+    assertThat(counts[0]).isZero();
+    assertThat(counts[1]).isZero();
+    assertThat(sumOf(counts)).isEqualTo(3 * accepted);
+  }
+
+  @Test
+  void samplesOccupyOnlyOpenUnstruckCells() {
+    Bitboard open = new Bitboard();
+    for (int cell = 0; cell < 40; cell++) {
+      open.add(cell);
+    }
+    Bitboard liveHits = cells(Bitboard.toCell(1, 4), Bitboard.toCell(1, 5));
+    FleetSampler sampler = new FleetSampler(observationOf(open, liveHits, 5, 4, 3, 2));
+
+    sampler.sample(SAMPLES, Long.MAX_VALUE, new Random(7));
+
+    int[] counts = sampler.getCounts();
+    int accepted = sampler.getAcceptedSamples();
+    assertThat(accepted).isPositive();
+    for (int cell = 0; cell < Bitboard.CELL_COUNT; cell++) {
+      if (!open.contains(cell) || liveHits.contains(cell)) {
+        assertThat(counts[cell]).as("cell %d", cell).isZero();
+      }
+    }
+    // Both hits are covered by ships that reach past them, and the rest of the fleet fills the remaining cells.
+    assertThat(sumOf(counts)).isEqualTo((5 + 4 + 3 + 2 - liveHits.count()) * accepted);
+  }
+
+  @Test
+  void deadlineInThePastDrawsNoSamples() {
+    FleetSampler sampler = new FleetSampler(observationOf(cells(0, 1, 2), new Bitboard(), 2));
+
+    sampler.sample(SAMPLES, System.nanoTime() - 1, new Random(1));
+
+    assertThat(sampler.getAcceptedSamples()).isZero();
+  }
+
+  private static BoardObservation observationOf(Bitboard open, Bitboard liveHits, int... remainingLengths) {
+    Bitboard blocked = new Bitboard(~open.getLow(), ~open.getHigh() & ((1L << (Bitboard.CELL_COUNT - 64)) - 1));
+    Bitboard struck = new Bitboard(blocked.getLow() | liveHits.getLow(), blocked.getHigh() | liveHits.getHigh());
+    return new BoardObservation(struck, blocked, liveHits, remainingLengths);
+  }
+
+  private static Bitboard cells(int... cells) {
+    Bitboard bitboard = new Bitboard();
+    for (int cell : cells) {
+      bitboard.add(cell);
+    }
+    return bitboard;
+  }
+
+  private static int sumOf(int[] counts) {
+    int sum = 0;
+    for (int count : counts) {
+      sum += count;
+    }
+    return sum;
+  }
+}
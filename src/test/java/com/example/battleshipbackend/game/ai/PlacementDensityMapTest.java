@@ -0,0 +1,96 @@
+package com.example.battleshipbackend.game.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.battleshipbackend.game.model.Bitboard;
+import com.example.battleshipbackend.game.model.ShipPlacements;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PlacementDensityMapTest {
+
+  @Test
+  void coverageOfAnEmptyBoardCountsEveryPlacement() {
+    assertCoverageMatchesRecount(new PlacementDensityMap(), new Bitboard());
+  }
+
+  @Test
+  void coverageFollowsRandomStrikeSequences() {
+    Random random = new Random(42);
+    for (int game = 0; game < 20; game++) {
+      PlacementDensityMap densityMap = new PlacementDensityMap();
+      Bitboard struck = new Bitboard();
+      int strikes = 1 + random.nextInt(Bitboard.CELL_COUNT);
+      for (int strike = 0; strike < strikes; strike++) {
+        struck.add(random.nextInt(Bitboard.CELL_COUNT));
+        densityMap.update(struck);
+
+        assertCoverageMatchesRecount(densityMap, struck);
+      }
+    }
+  }
+
+  @Test
+  void updateWithSeveralNewStrikesAppliesThemAll() {
+    Random random = new Random(7);
+    PlacementDensityMap densityMap = new PlacementDensityMap();
+    Bitboard struck = new Bitboard();
+    for (int strike = 0; strike < 30; strike++) {
+      struck.add(random.nextInt(Bitboard.CELL_COUNT));
+    }
+
+    densityMap.update(struck);
+
+    assertCoverageMatchesRecount(densityMap, struck);
+  }
+
+  @Test
+  void updateWithAnAlreadyAppliedBoardChangesNothing() {
+    Random random = new Random(3);
+    PlacementDensityMap densityMap = new PlacementDensityMap();
+    Bitboard struck = new Bitboard();
+    for (int strike = 0; strike < 40; strike++) {
+      struck.add(random.nextInt(Bitboard.CELL_COUNT));
+    }
+    densityMap.update(struck);
+
+    densityMap.update(struck);
+    densityMap.update(new Bitboard(struck.getLow(), struck.getHigh()));
+
+    assertCoverageMatchesRecount(densityMap, struck);
+  }
+
+  @Test
+  void bestCellIsNeverStruck() {
+    Bitboard struck = new Bitboard();
+    for (int cell = 0; cell < Bitboard.CELL_COUNT - 1; cell++) {
+      struck.add(cell);
+    }
+    PlacementDensityMap densityMap = new PlacementDensityMap();
+    densityMap.update(struck);
+
+    assertThat(densityMap.getBestCell(struck, 0b111100)).isEqualTo(Bitboard.CELL_COUNT - 1);
+    struck.add(Bitboard.CELL_COUNT - 1);
+    assertThat(densityMap.getBestCell(struck, 0b111100)).isEqualTo(-1);
+  }
+
+  private static void assertCoverageMatchesRecount(PlacementDensityMap densityMap, Bitboard struck) {
+    for (int length = ShipPlacements.MIN_SHIP_LENGTH; length <= ShipPlacements.MAX_SHIP_LENGTH; length++) {
+      int[] expected = new int[Bitboard.CELL_COUNT];
+      for (int placement = 0; placement < ShipPlacements.count(length); placement++) {
+        Bitboard mask = new Bitboard(ShipPlacements.low(length, placement), ShipPlacements.high(length, placement));
+        if (mask.intersects(struck)) {
+          continue;
+        }
+        for (int cell = mask.nextCell(0); cell >= 0; cell = mask.nextCell(cell + 1)) {
+          expected[cell]++;
+        }
+      }
+      int[] actual = new int[Bitboard.CELL_COUNT];
+      for (int cell = 0; cell < Bitboard.CELL_COUNT; cell++) {
+        actual[cell] = densityMap.getCoverage(length, cell);
+      }
+      assertThat(actual).as("coverage of length %d", length).containsExactly(expected);
+    }
+  }
+}
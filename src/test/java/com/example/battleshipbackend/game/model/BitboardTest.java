@@ -0,0 +1,93 @@
+package com.example.battleshipbackend.game.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BitboardTest {
+
+  @Test
+  void addContainsAndRemoveAcrossBothWords() {
+    Bitboard bitboard = new Bitboard();
+    for (int cell : new int[]{0, 63, 64, 99}) {
+      bitboard.add(cell);
+    }
+
+    assertThat(bitboard.contains(0)).isTrue();
+    assertThat(bitboard.contains(63)).isTrue();
+    assertThat(bitboard.contains(64)).isTrue();
+    assertThat(bitboard.contains(9, 9)).isTrue();
+    assertThat(bitboard.contains(1)).isFalse();
+    assertThat(bitboard.getLow()).isEqualTo(1L | (1L << 63));
+    assertThat(bitboard.getHigh()).isEqualTo(1L | (1L << 35));
+    assertThat(bitboard.count()).isEqualTo(4);
+
+    bitboard.remove(63);
+    bitboard.remove(64);
+
+    assertThat(bitboard.contains(63)).isFalse();
+    assertThat(bitboard.contains(64)).isFalse();
+    assertThat(bitboard.count()).isEqualTo(2);
+  }
+
+  @Test
+  void cellIndexIsRowTimesTenPlusColumn() {
+    assertThat(Bitboard.toCell(0, 0)).isZero();
+    assertThat(Bitboard.toCell(6, 4)).isEqualTo(64);
+    assertThat(Bitboard.rowOf(64)).isEqualTo(6);
+    assertThat(Bitboard.columnOf(64)).isEqualTo(4);
+    assertThat(Bitboard.isOnBoard(9, 9)).isTrue();
+    assertThat(Bitboard.isOnBoard(10, 0)).isFalse();
+    assertThat(Bitboard.isOnBoard(0, -1)).isFalse();
+  }
+
+  @Test
+  void nextCellWalksSetCellsInOrder() {
+    Bitboard bitboard = new Bitboard();
+    bitboard.add(5);
+    bitboard.add(63);
+    bitboard.add(64);
+    bitboard.add(99);
+
+    assertThat(bitboard.nextCell(0)).isEqualTo(5);
+    assertThat(bitboard.nextCell(6)).isEqualTo(63);
+    assertThat(bitboard.nextCell(64)).isEqualTo(64);
+    assertThat(bitboard.nextCell(65)).isEqualTo(99);
+    assertThat(bitboard.nextCell(100)).isEqualTo(-1);
+    assertThat(new Bitboard().nextCell(0)).isEqualTo(-1);
+  }
+
+  @Test
+  void setOperations() {
+    Bitboard first = new Bitboard(0b0110L, 1L);
+    Bitboard second = new Bitboard(0b0100L, 0L);
+    Bitboard disjoint = new Bitboard(0b1000L, 2L);
+
+    assertThat(first.intersects(second)).isTrue();
+    assertThat(first.intersects(disjoint)).isFalse();
+    assertThat(first.containsAll(second)).isTrue();
+    assertThat(second.containsAll(first)).isFalse();
+
+    first.addAll(disjoint);
+    assertThat(first).isEqualTo(new Bitboard(0b1110L, 3L));
+
+    second.set(disjoint);
+    assertThat(second).isEqualTo(disjoint);
+
+    second.clear();
+    assertThat(second.isEmpty()).isTrue();
+  }
+
+  @Test
+  void ofUnionsTheShipsCellsAndSkipsOffBoardCoordinates() {
+    Ship ship = new Ship("0", List.of(Coordinate.of(6, 3), Coordinate.of(6, 4)));
+    Ship offBoard = new Ship("1", List.of(Coordinate.of(10, 0)));
+
+    Bitboard bitboard = Bitboard.of(List.of(ship, offBoard));
+
+    assertThat(bitboard.count()).isEqualTo(2);
+    assertThat(bitboard.contains(63)).isTrue();
+    assertThat(bitboard.contains(64)).isTrue();
+  }
+}
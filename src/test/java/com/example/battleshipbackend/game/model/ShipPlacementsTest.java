@@ -0,0 +1,76 @@
+package com.example.battleshipbackend.game.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ShipPlacementsTest {
+
+  @Test
+  void countsBothOrientationsOfEveryLength() {
+    for (int length = ShipPlacements.MIN_SHIP_LENGTH; length <= ShipPlacements.MAX_SHIP_LENGTH; length++) {
+      assertThat(ShipPlacements.count(length)).isEqualTo(2 * Bitboard.BOARD_SIZE * (Bitboard.BOARD_SIZE - length + 1));
+    }
+  }
+
+  @Test
+  void indexOfFindsEveryPlacementFromItsMask() {
+    for (int length = ShipPlacements.MIN_SHIP_LENGTH; length <= ShipPlacements.MAX_SHIP_LENGTH; length++) {
+      for (int placement = 0; placement < ShipPlacements.count(length); placement++) {
+        long low = ShipPlacements.low(length, placement);
+        long high = ShipPlacements.high(length, placement);
+
+        assertThat(new Bitboard(low, high).count()).isEqualTo(length);
+        assertThat(ShipPlacements.indexOf(length, low, high)).isEqualTo(placement);
+      }
+    }
+  }
+
+  @Test
+  void indexOfMatchesHorizontalAndVerticalShipsAcrossTheWordBoundary() {
+    int horizontal = ShipPlacements.indexOf(3, maskOf(62, 63, 64).getLow(), maskOf(62, 63, 64).getHigh());
+    int vertical = ShipPlacements.indexOf(2, maskOf(54, 64).getLow(), maskOf(54, 64).getHigh());
+
+    assertThat(horizontal).isNotNegative();
+    assertThat(ShipPlacements.startCell(3, horizontal)).isEqualTo(62);
+    assertThat(ShipPlacements.isHorizontal(3, horizontal)).isTrue();
+    assertThat(vertical).isNotNegative();
+    assertThat(ShipPlacements.startCell(2, vertical)).isEqualTo(54);
+    assertThat(ShipPlacements.isHorizontal(2, vertical)).isFalse();
+  }
+
+  @Test
+  void indexOfRejectsMasksThatAreNoPlacement() {
+    Bitboard wrapping = maskOf(8, 9, 10);
+    Bitboard gap = maskOf(0, 2);
+    Bitboard bent = maskOf(0, 1, 11);
+    Bitboard single = maskOf(0, 1);
+
+    assertThat(ShipPlacements.indexOf(3, wrapping.getLow(), wrapping.getHigh())).isEqualTo(-1);
+    assertThat(ShipPlacements.indexOf(2, gap.getLow(), gap.getHigh())).isEqualTo(-1);
+    assertThat(ShipPlacements.indexOf(3, bent.getLow(), bent.getHigh())).isEqualTo(-1);
+    assertThat(ShipPlacements.indexOf(3, single.getLow(), single.getHigh())).isEqualTo(-1);
+    assertThat(ShipPlacements.indexOf(1, 1L, 0L)).isEqualTo(-1);
+    assertThat(ShipPlacements.indexOf(6, 0b111111L, 0L)).isEqualTo(-1);
+    assertThat(ShipPlacements.indexOf(2, 0L, 0L)).isEqualTo(-1);
+  }
+
+  @Test
+  void placementsCoveringACellAllContainIt() {
+    int cell = Bitboard.toCell(4, 5);
+    int[] covering = ShipPlacements.placementsCovering(5, cell);
+
+    assertThat(covering).hasSize(10);
+    for (int placement : covering) {
+      assertThat(new Bitboard(ShipPlacements.low(5, placement), ShipPlacements.high(5, placement)).contains(cell)).isTrue();
+    }
+  }
+
+  private static Bitboard maskOf(int... cells) {
+    Bitboard bitboard = new Bitboard();
+    for (int cell : cells) {
+      bitboard.add(cell);
+    }
+    return bitboard;
+  }
+}
@@ -0,0 +1,108 @@
+package com.example.battleshipbackend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.battleshipbackend.game.model.Coordinate;
+import com.example.battleshipbackend.game.model.Ship;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GameRuleServiceImplTest {
+
+  private final GameRuleServiceImpl gameRuleService = new GameRuleServiceImpl();
+
+  @Test
+  void acceptsAStraightNonOverlappingFleet() {
+    assertThat(gameRuleService.isShipsValid(validFleet())).isTrue();
+  }
+
+  @Test
+  void acceptsShipsAlongTheEdgesInBothOrientations() {
+    List<Ship> fleet = List.of(
+        vertical("0", 0, 9, 5),
+        horizontal("1", 9, 0, 4),
+        horizontal("2", 0, 0, 3),
+        vertical("3", 5, 0, 3),
+        horizontal("4", 6, 7, 2));
+
+    assertThat(gameRuleService.isShipsValid(fleet)).isTrue();
+  }
+
+  @Test
+  void rejectsOverlappingShips() {
+    List<Ship> fleet = validFleet();
+    fleet.set(4, vertical("4", 0, 1, 2));
+
+    assertThat(gameRuleService.isShipsValid(fleet)).isFalse();
+  }
+
+  @Test
+  void rejectsShipsThatAreNotStraightAndContiguous() {
+    List<Ship> bent = validFleet();
+    bent.set(2, ship("2", Coordinate.of(4, 0), Coordinate.of(4, 1), Coordinate.of(5, 1)));
+    List<Ship> gap = validFleet();
+    gap.set(4, ship("4", Coordinate.of(8, 0), Coordinate.of(8, 2)));
+    List<Ship> wrapping = validFleet();
+    wrapping.set(4, ship("4", Coordinate.of(7, 9), Coordinate.of(8, 0)));
+    List<Ship> duplicate = validFleet();
+    duplicate.set(4, ship("4", Coordinate.of(8, 0), Coordinate.of(8, 0)));
+
+    assertThat(gameRuleService.isShipsValid(bent)).isFalse();
+    assertThat(gameRuleService.isShipsValid(gap)).isFalse();
+    assertThat(gameRuleService.isShipsValid(wrapping)).isFalse();
+    assertThat(gameRuleService.isShipsValid(duplicate)).isFalse();
+  }
+
+  @Test
+  void rejectsShipsOffTheBoard() {
+    List<Ship> fleet = validFleet();
+    fleet.set(4, ship("4", Coordinate.of(9, 9), Coordinate.of(9, 10)));
+
+    assertThat(gameRuleService.isShipsValid(fleet)).isFalse();
+  }
+
+  @Test
+  void rejectsFleetsWithWrongLengthsOrShipCount() {
+    List<Ship> wrongLengths = validFleet();
+    wrongLengths.set(4, horizontal("4", 8, 0, 3));
+    List<Ship> missingShip = validFleet();
+    missingShip.remove(4);
+    List<Ship> extraShip = validFleet();
+    extraShip.add(horizontal("5", 9, 5, 2));
+
+    assertThat(gameRuleService.isShipsValid(wrongLengths)).isFalse();
+    assertThat(gameRuleService.isShipsValid(missingShip)).isFalse();
+    assertThat(gameRuleService.isShipsValid(extraShip)).isFalse();
+    assertThat(gameRuleService.isShipsValid(List.of())).isFalse();
+  }
+
+  private static List<Ship> validFleet() {
+    return new ArrayList<>(List.of(
+        horizontal("0", 0, 0, 5),
+        horizontal("1", 2, 0, 4),
+        horizontal("2", 4, 0, 3),
+        horizontal("3", 6, 0, 3),
+        horizontal("4", 8, 0, 2)));
+  }
+
+  private static Ship horizontal(String id, int row, int column, int length) {
+    List<Coordinate> coordinates = new ArrayList<>();
+    for (int i = 0; i < length; i++) {
+      coordinates.add(Coordinate.of(row, column + i));
+    }
+    return new Ship(id, coordinates);
+  }
+
+  private static Ship vertical(String id, int row, int column, int length) {
+    List<Coordinate> coordinates = new ArrayList<>();
+    for (int i = 0; i < length; i++) {
+      coordinates.add(Coordinate.of(row + i, column));
+    }
+    return new Ship(id, coordinates);
+  }
+
+  private static Ship ship(String id, Coordinate... coordinates) {
+    return new Ship(id, List.of(coordinates));
+  }
+}
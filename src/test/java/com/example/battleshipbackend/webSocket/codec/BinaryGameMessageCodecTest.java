@@ -0,0 +1,208 @@
+package com.example.battleshipbackend.webSocket.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.battleshipbackend.game.dto.ShipDTO;
+import com.example.battleshipbackend.game.dto.request.GameCommand;
+import com.example.battleshipbackend.game.dto.response.GameEvent;
+import com.example.battleshipbackend.game.enums.AIDifficultyType;
+import com.example.battleshipbackend.game.enums.GameCommandType;
+import com.example.battleshipbackend.game.enums.GameEventType;
+import com.example.battleshipbackend.game.model.Strike;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class BinaryGameMessageCodecTest {
+
+  private static final String GAME_ID = "123e4567-e89b-12d3-a456-426614174000";
+  private static final int ABSENT = 0xFF;
+
+  private final BinaryGameMessageCodec codec = new BinaryGameMessageCodec();
+
+  @Test
+  void decodesStrikeHeader() throws IOException {
+    GameCommand command = codec.decode(ByteBuffer.wrap(command(5, GAME_ID, 37)));
+
+    assertThat(command.getType()).isEqualTo(GameCommandType.STRIKE);
+    assertThat(command.getGameId()).isEqualTo(GAME_ID);
+    assertThat(command.getStrikeRow()).isEqualTo(3);
+    assertThat(command.getStrikeColumn()).isEqualTo(7);
+    assertThat(command.getShips()).isNull();
+    assertThat(command.getDifficulty()).isNull();
+  }
+
+  @Test
+  void decodesAbsentCellAndGameId() throws IOException {
+    GameCommand command = codec.decode(ByteBuffer.wrap(command(6, null, ABSENT)));
+
+    assertThat(command.getType()).isEqualTo(GameCommandType.SYNC);
+    assertThat(command.getGameId()).isEmpty();
+    assertThat(command.getStrikeRow()).isNull();
+    assertThat(command.getStrikeColumn()).isNull();
+  }
+
+  @Test
+  void decodesJoinTailWithPackedShips() throws IOException {
+    byte[] bytes = concat(command(2, null, ABSENT),
+        new byte[]{3, 0x01, 2, 0, (byte) (0x80 | 5), 99 - 9, 2});
+
+    GameCommand command = codec.decode(ByteBuffer.wrap(bytes));
+
+    assertThat(command.getType()).isEqualTo(GameCommandType.JOIN_AI);
+    assertThat(command.getDifficulty()).isEqualTo(AIDifficultyType.HARD);
+    assertThat(command.getIsDeltaEvents()).isTrue();
+    assertThat(command.getShips()).containsExactly(
+        ShipDTO.builder().id("0").isHorizontal(true).length(5).row(0).column(0).build(),
+        ShipDTO.builder().id("1").isHorizontal(false).length(2).row(9).column(0).build());
+  }
+
+  @Test
+  void decodesJoinTailWithAbsentDifficulty() throws IOException {
+    byte[] bytes = concat(command(0, null, ABSENT), new byte[]{(byte) ABSENT, 0, 0});
+
+    GameCommand command = codec.decode(ByteBuffer.wrap(bytes));
+
+    assertThat(command.getType()).isEqualTo(GameCommandType.JOIN);
+    assertThat(command.getDifficulty()).isNull();
+    assertThat(command.getIsDeltaEvents()).isFalse();
+    assertThat(command.getShips()).isEmpty();
+  }
+
+  @Test
+  void rejectsMalformedCommands() {
+    byte[] header = command(0, null, ABSENT);
+
+    assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(new byte[17]))).isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(command(7, null, ABSENT)))).isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(concat(header, new byte[]{1}))))
+        .isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(concat(header, new byte[]{1, 0}))))
+        .isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(concat(header, new byte[]{4, 0, 0}))))
+        .isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(concat(header, new byte[]{1, 0, 2, 0, 5}))))
+        .isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(concat(header, new byte[]{1, 0, 0, 42}))))
+        .isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void encodesHeaderAndAbsentSections() throws IOException {
+    GameEvent event = GameEvent.builder()
+        .eventType(GameEventType.NO_GAME)
+        .build();
+
+    ByteBuffer buffer = ByteBuffer.wrap(codec.encodeToBytes(event));
+
+    assertThat(Byte.toUnsignedInt(buffer.get())).isEqualTo(9);
+    assertThat(buffer.getLong()).isZero();
+    assertThat(buffer.getLong()).isZero();
+    assertThat(Byte.toUnsignedInt(buffer.get())).isEqualTo(ABSENT);
+    assertThat(Byte.toUnsignedInt(buffer.get())).isEqualTo(ABSENT);
+    assertThat(Short.toUnsignedInt(buffer.getShort())).isEqualTo(0xFFFF);
+    assertThat(Byte.toUnsignedInt(buffer.get())).isEqualTo(ABSENT);
+    assertThat(Byte.toUnsignedInt(buffer.get())).isEqualTo(ABSENT);
+    for (int section = 0; section < 5; section++) {
+      assertThat(Byte.toUnsignedInt(buffer.get())).isEqualTo(ABSENT);
+    }
+    assertThat(buffer.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void encodesFullEvent() throws IOException {
+    ShipDTO sunkenShip = ShipDTO.builder().isHorizontal(true).length(3).row(4).column(2).build();
+    GameEvent event = GameEvent.builder()
+        .gameId(GAME_ID)
+        .eventType(GameEventType.TURN_OWN)
+        .lastStrike(Strike.of(42, true))
+        .sequence(7)
+        .timeLeft(70_000L)
+        .sunkenShip(sunkenShip)
+        .ownStrikes(List.of(Strike.of(0, false), Strike.of(99, true)))
+        .opponentStrikes(List.of())
+        .ownActiveShips(List.of(ShipDTO.builder().isHorizontal(false).length(2).row(8).column(9).build()))
+        .ownSunkenShips(List.of())
+        .opponentSunkenShips(List.of(sunkenShip))
+        .build();
+
+    ByteBuffer buffer = ByteBuffer.wrap(codec.encodeToBytes(event));
+
+    UUID gameId = UUID.fromString(GAME_ID);
+    assertThat(buffer.get()).isEqualTo((byte) 2);
+    assertThat(buffer.getLong()).isEqualTo(gameId.getMostSignificantBits());
+    assertThat(buffer.getLong()).isEqualTo(gameId.getLeastSignificantBits());
+    assertThat(buffer.get()).isEqualTo((byte) (0x80 | 42));
+    assertThat(buffer.get()).isEqualTo((byte) 7);
+    assertThat(Short.toUnsignedInt(buffer.getShort())).isEqualTo(0xFFFE);
+    assertThat(buffer.get()).isEqualTo((byte) 42);
+    assertThat(buffer.get()).isEqualTo((byte) (0x80 | 3));
+    assertThat(buffer.get()).isEqualTo((byte) 2);
+    assertThat(buffer.get()).isEqualTo((byte) 0);
+    assertThat(buffer.get()).isEqualTo((byte) (0x80 | 99));
+    assertThat(buffer.get()).isEqualTo((byte) 0);
+    assertThat(buffer.get()).isEqualTo((byte) 1);
+    assertThat(buffer.get()).isEqualTo((byte) 89);
+    assertThat(buffer.get()).isEqualTo((byte) 2);
+    assertThat(buffer.get()).isEqualTo((byte) 0);
+    assertThat(buffer.get()).isEqualTo((byte) 1);
+    assertThat(buffer.get()).isEqualTo((byte) 42);
+    assertThat(buffer.get()).isEqualTo((byte) (0x80 | 3));
+    assertThat(buffer.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void encodedShipsDecodeBackToTheSameShips() throws IOException {
+    List<ShipDTO> ships = List.of(
+        ShipDTO.builder().id("0").isHorizontal(true).length(5).row(0).column(5).build(),
+        ShipDTO.builder().id("1").isHorizontal(false).length(4).row(6).column(9).build(),
+        ShipDTO.builder().id("2").isHorizontal(true).length(2).row(9).column(8).build());
+    byte[] encoded = codec.encodeToBytes(GameEvent.builder().eventType(GameEventType.TURN_OWN).ownActiveShips(ships).build());
+    int shipsOffset = 1 + 16 + 1 + 1 + 2 + 2 + 1 + 1;
+    byte[] shipSection = new byte[1 + ships.size() * 2];
+    System.arraycopy(encoded, shipsOffset, shipSection, 0, shipSection.length);
+
+    GameCommand command = codec.decode(ByteBuffer.wrap(concat(command(0, null, ABSENT), new byte[]{(byte) ABSENT, 0},
+        shipSection)));
+
+    assertThat(command.getShips()).isEqualTo(ships);
+  }
+
+  @Test
+  void everyEventTypeHasABinaryCode() throws IOException {
+    GameEvent event = GameEvent.builder().gameId(GAME_ID).build();
+    for (GameEventType type : GameEventType.values()) {
+      event.setEventType(type);
+
+      assertThat(Byte.toUnsignedInt(codec.encodeToBytes(event)[0])).isEqualTo(type.ordinal());
+    }
+  }
+
+  private static byte[] command(int type, String gameId, int cell) {
+    ByteBuffer buffer = ByteBuffer.allocate(18);
+    buffer.put((byte) type);
+    if (gameId == null) {
+      buffer.putLong(0L).putLong(0L);
+    } else {
+      UUID uuid = UUID.fromString(gameId);
+      buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+    }
+    buffer.put((byte) cell);
+    return buffer.array();
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    int length = 0;
+    for (byte[] part : parts) {
+      length += part.length;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    for (byte[] part : parts) {
+      buffer.put(part);
+    }
+    return buffer.array();
+  }
+}
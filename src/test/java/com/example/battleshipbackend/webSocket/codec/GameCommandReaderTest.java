@@ -0,0 +1,61 @@
+package com.example.battleshipbackend.webSocket.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.battleshipbackend.game.dto.request.GameCommand;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class GameCommandReaderTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final GameCommandReader reader = new GameCommandReader(objectMapper.getFactory());
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "{}",
+      "{\"type\":\"STRIKE\",\"gameId\":\"123e4567-e89b-12d3-a456-426614174000\",\"strikeRow\":3,\"strikeColumn\":4}",
+      "{\"type\":\"JOIN_AI\",\"difficulty\":\"HARD\",\"isDeltaEvents\":true,\"ships\":["
+          + "{\"id\":\"0\",\"isHorizontal\":true,\"length\":5,\"row\":0,\"column\":0},"
+          + "{\"id\":\"1\",\"isHorizontal\":false,\"length\":2,\"row\":8,\"column\":9}]}",
+      "{\"type\":null,\"gameId\":null,\"strikeRow\":null,\"strikeColumn\":null,\"ships\":null,\"difficulty\":null,"
+          + "\"isDeltaEvents\":null}",
+      "{\"ships\":[{\"id\":null,\"isHorizontal\":null,\"length\":null,\"row\":null,\"column\":null}]}",
+      "{\"version\":2,\"client\":{\"name\":\"web\",\"tags\":[\"a\",{\"nested\":[1,2,{\"deep\":null}]}]},\"type\":\"SYNC\","
+          + "\"ships\":[{\"row\":1,\"extra\":{\"a\":[true,false]},\"column\":2}],\"trailing\":[]}",
+      "{\"type\":\"STRIKE\",\"strikeRow\":\"3\",\"strikeColumn\":4.0}",
+      "{\"strikeRow\":\" 7 \",\"strikeColumn\":\"\",\"isDeltaEvents\":\"true\"}",
+      "{\"ships\":[{\"length\":\"3\",\"row\":2.0,\"column\":\"\",\"isHorizontal\":\"false\"}]}",
+      "{\"gameId\":42,\"isDeltaEvents\":false}"
+  })
+  void readsLikeTheObjectMapper(String json) throws IOException {
+    GameCommand expected = objectMapper.readValue(json, GameCommand.class);
+
+    assertThat(read(json)).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "[]",
+      "{\"type\":\"SHOOT\"}",
+      "{\"strikeRow\":\"three\"}",
+      "{\"strikeRow\":[3]}",
+      "{\"ships\":{\"row\":1}}",
+      "{\"isDeltaEvents\":\"yes\"}",
+      "{\"type\":\"STRIKE\""
+  })
+  void rejectsWhatTheObjectMapperRejects(String json) {
+    assertThatThrownBy(() -> objectMapper.readValue(json, GameCommand.class)).isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> read(json)).isInstanceOf(IOException.class);
+  }
+
+  private GameCommand read(String json) throws IOException {
+    return reader.read(DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8)));
+  }
+}
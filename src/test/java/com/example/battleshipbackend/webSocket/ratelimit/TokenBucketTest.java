@@ -0,0 +1,84 @@
+package com.example.battleshipbackend.webSocket.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  private static final long START = 1_000L;
+
+  @Test
+  void startsFullAndAllowsABurstOfCapacity() {
+    TokenBucket bucket = new TokenBucket(20, 4, START);
+
+    assertThat(acquireAll(bucket, START)).isEqualTo(20);
+    assertThat(bucket.tryAcquire(START)).isFalse();
+  }
+
+  @Test
+  void refillsAtTheConfiguredRate() {
+    TokenBucket bucket = new TokenBucket(20, 4, START);
+    acquireAll(bucket, START);
+
+    assertThat(bucket.tryAcquire(START + millis(249))).isFalse();
+    assertThat(bucket.tryAcquire(START + millis(250))).isTrue();
+    assertThat(bucket.tryAcquire(START + millis(250))).isFalse();
+    assertThat(acquireAll(bucket, START + millis(1_250))).isEqualTo(4);
+  }
+
+  @Test
+  void neverHoldsMoreThanCapacity() {
+    TokenBucket bucket = new TokenBucket(20, 4, START);
+    acquireAll(bucket, START);
+
+    assertThat(acquireAll(bucket, START + TimeUnit.MINUTES.toNanos(10))).isEqualTo(20);
+  }
+
+  @Test
+  void sustainsTwentyMessagesPerFiveSecondsLikeTheOldLimit() {
+    TokenBucket bucket = new TokenBucket(20, 4, START);
+    acquireAll(bucket, START);
+
+    int accepted = 0;
+    for (long now = START + millis(10); now <= START + millis(5_000); now += millis(10)) {
+      if (bucket.tryAcquire(now)) {
+        accepted++;
+      }
+    }
+
+    assertThat(accepted).isEqualTo(20);
+  }
+
+  @Test
+  void ignoresAClockThatGoesBack() {
+    TokenBucket bucket = new TokenBucket(2, 1, START);
+    acquireAll(bucket, START);
+
+    assertThat(bucket.tryAcquire(START - millis(5_000))).isFalse();
+    assertThat(bucket.tryAcquire(START + millis(1_000))).isTrue();
+  }
+
+  @Test
+  void fractionalRatesAccumulateAcrossCalls() {
+    TokenBucket bucket = new TokenBucket(3, 0.2, START);
+    acquireAll(bucket, START);
+
+    assertThat(bucket.tryAcquire(START + millis(2_500))).isFalse();
+    assertThat(bucket.tryAcquire(START + millis(4_999))).isFalse();
+    assertThat(bucket.tryAcquire(START + millis(5_000))).isTrue();
+  }
+
+  private static int acquireAll(TokenBucket bucket, long nowNanos) {
+    int acquired = 0;
+    while (bucket.tryAcquire(nowNanos)) {
+      acquired++;
+    }
+    return acquired;
+  }
+
+  private static long millis(long millis) {
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+}